@@ -0,0 +1,30 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.usecase.ExpireIdempotencyKeysUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class IdempotencyExpiryConfig {
+  private final ExpireIdempotencyKeysUseCase expireIdempotencyKeysUseCase;
+  private final Duration retention;
+  private final Duration claimTimeout;
+
+  public IdempotencyExpiryConfig(ExpireIdempotencyKeysUseCase expireIdempotencyKeysUseCase,
+                                 @Value("${entrypoint.idempotency.retention:PT24H}") Duration retention,
+                                 @Value("${entrypoint.idempotency.claim-timeout:PT5M}") Duration claimTimeout) {
+    this.expireIdempotencyKeysUseCase = expireIdempotencyKeysUseCase;
+    this.retention = retention;
+    this.claimTimeout = claimTimeout;
+  }
+
+  @Scheduled(fixedDelayString = "${entrypoint.idempotency.expiry-interval:PT10M}")
+  public void expireIdempotencyKeys() {
+    expireIdempotencyKeysUseCase.execute(retention, claimTimeout).block();
+  }
+}
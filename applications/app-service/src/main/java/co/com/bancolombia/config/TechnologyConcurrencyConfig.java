@@ -0,0 +1,17 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TechnologyConcurrencyConfig {
+
+  @Bean
+  public TechnologyConcurrency technologyConcurrency(
+    @Value("${usecase.technology-concurrency.per-request:20}") int perRequest,
+    @Value("${usecase.technology-concurrency.per-capacity:4}") int perCapacity) {
+    return new TechnologyConcurrency(perRequest, perCapacity);
+  }
+}
@@ -0,0 +1,26 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.usecase.RetryPendingTechnologyDeletionsUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@EnableScheduling
+public class TechnologyDeletionRetryConfig {
+  private final RetryPendingTechnologyDeletionsUseCase retryPendingTechnologyDeletionsUseCase;
+  private final int batchSize;
+
+  public TechnologyDeletionRetryConfig(RetryPendingTechnologyDeletionsUseCase retryPendingTechnologyDeletionsUseCase,
+                                       @Value("${adapter.restconsumer.deletion-retry.batch-size:50}") int batchSize) {
+    this.retryPendingTechnologyDeletionsUseCase = retryPendingTechnologyDeletionsUseCase;
+    this.batchSize = batchSize;
+  }
+
+  // Blocking on the scheduler thread keeps runs from overlapping when the technology service is slow
+  @Scheduled(fixedDelayString = "${adapter.restconsumer.deletion-retry.interval:PT30S}")
+  public void retryPendingTechnologyDeletions() {
+    retryPendingTechnologyDeletionsUseCase.execute(batchSize).block();
+  }
+}
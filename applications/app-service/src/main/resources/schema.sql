@@ -1,4 +1,5 @@
 CREATE SCHEMA IF NOT EXISTS capacity_schema;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 
 CREATE TABLE IF NOT EXISTS capacity_schema.capacity (
     capacity_id BIGSERIAL PRIMARY KEY,
@@ -14,6 +15,33 @@ CREATE TABLE IF NOT EXISTS capacity_schema.capacity_bootcamp (
     FOREIGN KEY (capacity_id) REFERENCES capacity_schema.capacity(capacity_id) ON DELETE CASCADE
 );
 
+CREATE TABLE IF NOT EXISTS capacity_schema.pending_technology_deletion (
+    capacity_id BIGINT PRIMARY KEY,
+    attempts INT NOT NULL DEFAULT 1,
+    enqueued_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE IF NOT EXISTS capacity_schema.capacity_event (
+    event_id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    capacity_id BIGINT NOT NULL,
+    bootcamp_id BIGINT,
+    occurred_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE IF NOT EXISTS capacity_schema.idempotency_key (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    fingerprint CHAR(64) NOT NULL,
+    status_code INT,
+    content_type VARCHAR(100),
+    body BYTEA,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    completed_at TIMESTAMPTZ
+);
+
 
 CREATE INDEX idx_capacity_name ON capacity_schema.capacity(name);
-CREATE INDEX idx_capacity_bootcamp_capacity_id ON capacity_schema.capacity_bootcamp(bootcamp_id);
\ No newline at end of file
+CREATE INDEX idx_capacity_bootcamp_capacity_id ON capacity_schema.capacity_bootcamp(bootcamp_id);
+CREATE INDEX idx_capacity_name_trgm ON capacity_schema.capacity USING GIN (name gin_trgm_ops);
+CREATE INDEX idx_capacity_description_trgm ON capacity_schema.capacity USING GIN (description gin_trgm_ops);
+CREATE INDEX idx_idempotency_key_created_at ON capacity_schema.idempotency_key(created_at);
@@ -0,0 +1,43 @@
+package co.com.bancolombia.model.capacity;
+
+import java.time.Instant;
+
+public class CapacityEvent {
+  private final Long eventId;
+  private final CapacityEventType type;
+  private final Long capacityId;
+  private final Long bootcampId;
+  private final Instant occurredAt;
+
+  public CapacityEvent(CapacityEventType type, Long capacityId, Long bootcampId) {
+    this(null, type, capacityId, bootcampId, null);
+  }
+
+  public CapacityEvent(Long eventId, CapacityEventType type, Long capacityId, Long bootcampId, Instant occurredAt) {
+    this.eventId = eventId;
+    this.type = type;
+    this.capacityId = capacityId;
+    this.bootcampId = bootcampId;
+    this.occurredAt = occurredAt;
+  }
+
+  public Long getEventId() {
+    return eventId;
+  }
+
+  public CapacityEventType getType() {
+    return type;
+  }
+
+  public Long getCapacityId() {
+    return capacityId;
+  }
+
+  public Long getBootcampId() {
+    return bootcampId;
+  }
+
+  public Instant getOccurredAt() {
+    return occurredAt;
+  }
+}
@@ -0,0 +1,8 @@
+package co.com.bancolombia.model.capacity;
+
+public enum CapacityEventType {
+  CAPACITY_CREATED,
+  CAPACITY_DELETED,
+  ASSOCIATION_ADDED,
+  ASSOCIATION_REMOVED
+}
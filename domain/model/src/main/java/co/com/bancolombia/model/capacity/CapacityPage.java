@@ -0,0 +1,6 @@
+package co.com.bancolombia.model.capacity;
+
+import java.util.List;
+
+public record CapacityPage(List<CapacitySummary> capacities, long totalElements) {
+}
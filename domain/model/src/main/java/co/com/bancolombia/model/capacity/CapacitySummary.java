@@ -0,0 +1,8 @@
+package co.com.bancolombia.model.capacity;
+
+/**
+ * Read-only view of a capacity as stored. It skips the value objects of {@link Capacity}: the values were
+ * validated when they were written, so the query paths do not pay for that again.
+ */
+public record CapacitySummary(Long capacityId, String name, String description) {
+}
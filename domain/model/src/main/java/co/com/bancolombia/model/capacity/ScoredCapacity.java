@@ -0,0 +1,19 @@
+package co.com.bancolombia.model.capacity;
+
+public class ScoredCapacity {
+  private final Capacity capacity;
+  private final Float score;
+
+  public ScoredCapacity(Capacity capacity, Float score) {
+    this.capacity = capacity;
+    this.score = score;
+  }
+
+  public Capacity getCapacity() {
+    return capacity;
+  }
+
+  public Float getScore() {
+    return score;
+  }
+}
@@ -8,6 +8,7 @@ public class Technology {
   private Id id;
   private Name name;
   private Description description;
+  private boolean degraded;
 
   public Technology(Long id, String name, String description) {
     this.id = new Id(id);
@@ -43,4 +44,12 @@ public class Technology {
   public void setDescription(Description description) {
     this.description = description;
   }
+
+  public boolean isDegraded() {
+    return degraded;
+  }
+
+  public void setDegraded(boolean degraded) {
+    this.degraded = degraded;
+  }
 }
@@ -0,0 +1,18 @@
+package co.com.bancolombia.model.capacity;
+
+/**
+ * How many technology-service calls one request may have in flight. {@code perRequest} bounds the whole
+ * request; {@code perCapacity} bounds the calls made for a single capacity when a request spans many.
+ */
+public record TechnologyConcurrency(int perRequest, int perCapacity) {
+  public TechnologyConcurrency {
+    if (perRequest < 1 || perCapacity < 1 || perCapacity > perRequest) {
+      throw new IllegalArgumentException("Technology concurrency should satisfy 1 <= perCapacity <= perRequest");
+    }
+  }
+
+  // Capacities handled at once, chosen so that capacities times calls per capacity stays within perRequest
+  public int capacities() {
+    return perRequest / perCapacity;
+  }
+}
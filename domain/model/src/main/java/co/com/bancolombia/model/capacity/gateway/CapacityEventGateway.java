@@ -0,0 +1,10 @@
+package co.com.bancolombia.model.capacity.gateway;
+
+import co.com.bancolombia.model.capacity.CapacityEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CapacityEventGateway {
+  Mono<Void> publish(CapacityEvent event);
+  Flux<CapacityEvent> stream(Long afterEventId);
+}
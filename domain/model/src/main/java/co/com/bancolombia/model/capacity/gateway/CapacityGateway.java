@@ -2,19 +2,28 @@ package co.com.bancolombia.model.capacity.gateway;
 
 import co.com.bancolombia.model.capacity.Capacity;
 import co.com.bancolombia.model.capacity.CapacityBootcamp;
+import co.com.bancolombia.model.capacity.CapacityPage;
+import co.com.bancolombia.model.capacity.CapacitySummary;
+import co.com.bancolombia.model.capacity.ScoredCapacity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface CapacityGateway {
   Mono<Boolean> existsByName(String name);
   Mono<Capacity> save(Capacity capacity);
-  Flux<Capacity> findAll();
-  Flux<Capacity> findAllPagedSorted(int page, int size, String sortBy, String order);
+  Flux<Capacity> saveAll(List<Capacity> capacities);
+  Flux<String> findExistingNames(List<String> names);
+  Flux<CapacitySummary> findAll();
+  Mono<CapacityPage> findAllPagedSorted(int page, int size, String sortBy, String order);
   Mono<Capacity> findById(Long capacityId);
-  Flux<Capacity> findByBootcamp(Long bootcampId);
+  Flux<CapacitySummary> findByIds(List<Long> capacityIds);
+  Flux<CapacitySummary> findByBootcamp(Long bootcampId);
   Mono<CapacityBootcamp> associateCapacityBootcamp(CapacityBootcamp capacityBootcamp);
   Mono<CapacityBootcamp> findByBootcampIdAndCapacityId(Long bootcampId, Long capacityId);
   Mono<Long> countBootcampsByCapacityId(Long capacityId);
   Mono<Void> delete(Long capacityId);
   Mono<Void> deleteCapacityBootcampRelation(Long capacityId, Long bootcampId);
+  Flux<ScoredCapacity> search(String text, Float afterScore, Long afterId, int limit);
 }
@@ -0,0 +1,10 @@
+package co.com.bancolombia.model.capacity.gateway;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TechnologyDeletionQueueGateway {
+  Mono<Void> enqueue(Long capacityId);
+  Flux<Long> findPending(int limit);
+  Mono<Void> remove(Long capacityId);
+}
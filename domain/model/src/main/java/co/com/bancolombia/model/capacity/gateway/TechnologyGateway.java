@@ -6,10 +6,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TechnologyGateway {
   Mono<Technology> associateTechnology(CapacityTechnology capacityTechnology);
   Flux<Technology> findByCapacityId(Long capacityId);
+  Mono<Map<Long, List<Technology>>> findByCapacityIds(List<Long> capacityIds);
   Flux<Technology> findAll();
   Mono<List<Long>> deleteTechnologiesByCapacity(Long capacityId);
 }
@@ -0,0 +1,43 @@
+package co.com.bancolombia.model.deadline;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public final class RequestDeadline {
+  public static final String CONTEXT_KEY = RequestDeadline.class.getName();
+
+  private final long expiresAtNanos;
+
+  private RequestDeadline(long expiresAtNanos) {
+    this.expiresAtNanos = expiresAtNanos;
+  }
+
+  public static RequestDeadline after(Duration budget) {
+    return new RequestDeadline(System.nanoTime() + budget.toNanos());
+  }
+
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+  }
+
+  public static Optional<RequestDeadline> from(ContextView context) {
+    return context.getOrEmpty(CONTEXT_KEY);
+  }
+
+  // Both helpers are no-ops outside a request, so background jobs keep their own timeouts
+  public static <T> Mono<T> bound(Mono<T> source) {
+    return Mono.deferContextual(context -> from(context)
+      .map(deadline -> source.timeout(deadline.remaining()))
+      .orElse(source));
+  }
+
+  public static <T> Flux<T> bound(Flux<T> source) {
+    return Flux.deferContextual(context -> from(context)
+      .map(deadline -> source.timeout(Mono.delay(deadline.remaining()), item -> Mono.delay(deadline.remaining())))
+      .orElse(source));
+  }
+}
@@ -0,0 +1,30 @@
+package co.com.bancolombia.model.idempotency;
+
+public class IdempotencyRecord {
+  private final String key;
+  private final String fingerprint;
+  private final IdempotentResponse response;
+
+  public IdempotencyRecord(String key, String fingerprint, IdempotentResponse response) {
+    this.key = key;
+    this.fingerprint = fingerprint;
+    this.response = response;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  // Null while the request that claimed the key is still running
+  public IdempotentResponse getResponse() {
+    return response;
+  }
+
+  public boolean isCompleted() {
+    return response != null;
+  }
+}
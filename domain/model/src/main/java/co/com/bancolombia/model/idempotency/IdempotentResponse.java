@@ -0,0 +1,29 @@
+package co.com.bancolombia.model.idempotency;
+
+public class IdempotentResponse {
+  private final int statusCode;
+  private final String contentType;
+  private final byte[] body;
+
+  public IdempotentResponse(int statusCode, String contentType, byte[] body) {
+    this.statusCode = statusCode;
+    this.contentType = contentType;
+    this.body = body;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public byte[] getBody() {
+    return body;
+  }
+
+  public boolean isServerError() {
+    return statusCode >= 500;
+  }
+}
@@ -0,0 +1,15 @@
+package co.com.bancolombia.model.idempotency.gateway;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.IdempotentResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface IdempotencyGateway {
+  Mono<Boolean> claim(String key, String fingerprint);
+  Mono<IdempotencyRecord> find(String key);
+  Mono<Void> complete(String key, IdempotentResponse response);
+  Mono<Void> release(String key);
+  Mono<Long> deleteExpired(Instant completedBefore, Instant claimedBefore);
+}
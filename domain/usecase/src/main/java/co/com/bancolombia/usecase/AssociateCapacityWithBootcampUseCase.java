@@ -1,6 +1,8 @@
 package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.capacity.CapacityBootcamp;
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.usecase.command.AssociateCapacityWithBootcampCommand;
@@ -10,15 +12,18 @@ import co.com.bancolombia.usecase.response.TechnologyResponse;
 import reactor.core.publisher.Mono;
 
 public class AssociateCapacityWithBootcampUseCase {
-  private final String CAPACITY_NOT_FOUND_MESSAGE = "The capacity has not been found.";
-  private final String ASSOCIATION_ALREADY_EXISTS_MESSAGE = "The capacity is already associated with this bootcamp.";
+  public static final String CAPACITY_NOT_FOUND_MESSAGE = "The capacity has not been found.";
+  public static final String ASSOCIATION_ALREADY_EXISTS_MESSAGE = "The capacity is already associated with this bootcamp.";
   private final CapacityGateway capacityGateway;
   private final TechnologyGateway technologyGateway;
+  private final CapacityEventGateway capacityEventGateway;
 
 
-  public AssociateCapacityWithBootcampUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway) {
+  public AssociateCapacityWithBootcampUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway,
+                                              CapacityEventGateway capacityEventGateway) {
     this.capacityGateway = capacityGateway;
     this.technologyGateway = technologyGateway;
+    this.capacityEventGateway = capacityEventGateway;
   }
 
   public Mono<AssociateCapacityWithBootcampResponse> execute(AssociateCapacityWithBootcampCommand command) {
@@ -35,6 +40,8 @@ public class AssociateCapacityWithBootcampUseCase {
           .cast(AssociateCapacityWithBootcampResponse.class)
           .switchIfEmpty(
             capacityGateway.associateCapacityBootcamp(new CapacityBootcamp(bootcampId, capacityId))
+              .flatMap(capacityBootcamp -> CapacityEvents.publish(capacityEventGateway, CapacityEventType.ASSOCIATION_ADDED, capacityId, bootcampId)
+                .thenReturn(capacityBootcamp))
               .flatMap(capacityBootcamp -> technologyGateway
                 .findByCapacityId(capacityId)
                 .collectList()
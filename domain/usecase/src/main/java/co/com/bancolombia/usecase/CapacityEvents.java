@@ -0,0 +1,17 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.CapacityEvent;
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
+import reactor.core.publisher.Mono;
+
+final class CapacityEvents {
+  private CapacityEvents() {
+  }
+
+  // The change has already been written when this runs, so a failed notification must not fail the request
+  static Mono<Void> publish(CapacityEventGateway capacityEventGateway, CapacityEventType type, Long capacityId, Long bootcampId) {
+    return capacityEventGateway.publish(new CapacityEvent(type, capacityId, bootcampId))
+      .onErrorResume(error -> Mono.empty());
+  }
+}
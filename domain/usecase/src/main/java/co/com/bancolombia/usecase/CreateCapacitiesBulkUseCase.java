@@ -0,0 +1,151 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import co.com.bancolombia.model.capacity.CapacityTechnology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.exception.DomainException;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
+import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.command.CreateCapacityCommand;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.BulkCreateCapacitiesResponse;
+import co.com.bancolombia.usecase.response.BulkCreateCapacityItemResponse;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CreateCapacitiesBulkUseCase {
+  public static final int MAX_BULK_SIZE = 100;
+  private final String BULK_SIZE_MESSAGE = "The bulk request should have between 1 and 100 capacities.";
+  private final String NAME_REPEATED_MESSAGE = "The capacity name is repeated in the request.";
+  private final String ASSOCIATION_FAILED_MESSAGE = "The capacity was created but its technologies could not be associated.";
+  private final CapacityGateway capacityGateway;
+  private final TechnologyGateway technologyGateway;
+  private final CapacityEventGateway capacityEventGateway;
+  private final TechnologyConcurrency technologyConcurrency;
+
+  public CreateCapacitiesBulkUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway,
+                                     CapacityEventGateway capacityEventGateway, TechnologyConcurrency technologyConcurrency) {
+    this.capacityGateway = capacityGateway;
+    this.technologyGateway = technologyGateway;
+    this.capacityEventGateway = capacityEventGateway;
+    this.technologyConcurrency = technologyConcurrency;
+  }
+
+  public Mono<BulkCreateCapacitiesResponse> execute(List<CreateCapacityCommand> commands) {
+    if (commands == null || commands.isEmpty() || commands.size() > MAX_BULK_SIZE) {
+      return Mono.error(new BussinessException(BULK_SIZE_MESSAGE));
+    }
+
+    // Everything that can be checked without I/O is checked first, so only valid items reach the gateways
+    List<BulkCreateCapacityItemResponse> failures = new ArrayList<>();
+    Map<Integer, Capacity> candidates = new LinkedHashMap<>();
+    Set<String> requestedNames = new HashSet<>();
+    for (int index = 0; index < commands.size(); index++) {
+      CreateCapacityCommand command = commands.get(index);
+      Optional<String> violation = CreateCapacityRules.technologiesViolation(command.getTechnologyNames());
+      if (violation.isPresent()) {
+        failures.add(BulkCreateCapacityItemResponse.failed(index, command.getName(), violation.get()));
+        continue;
+      }
+
+      try {
+        Capacity capacity = new Capacity(command.getName(), command.getDescription());
+        if (requestedNames.add(capacity.getName().getValue())) {
+          candidates.put(index, capacity);
+        } else {
+          failures.add(BulkCreateCapacityItemResponse.failed(index, command.getName(), NAME_REPEATED_MESSAGE));
+        }
+      } catch (DomainException e) {
+        failures.add(BulkCreateCapacityItemResponse.failed(index, command.getName(), e.getMessage()));
+      }
+    }
+
+    if (candidates.isEmpty()) {
+      return Mono.just(toResponse(failures, List.of()));
+    }
+
+    List<String> names = candidates.values().stream().map(capacity -> capacity.getName().getValue()).toList();
+    Set<String> technologyNames = candidates.keySet().stream()
+      .flatMap(index -> commands.get(index).getTechnologyNames().stream())
+      .collect(Collectors.toSet());
+
+    return Mono.zip(
+        capacityGateway.findExistingNames(names).collect(Collectors.toSet()),
+        CreateCapacityRules.missingTechnologies(technologyGateway, technologyNames))
+      .flatMap(checks -> {
+        Set<String> existingNames = checks.getT1();
+        Set<String> missingTechnologies = checks.getT2();
+        List<BulkCreateCapacityItemResponse> rejected = new ArrayList<>(failures);
+        Map<Integer, Capacity> accepted = new LinkedHashMap<>();
+        candidates.forEach((index, capacity) -> {
+          String name = capacity.getName().getValue();
+          if (existingNames.contains(name)) {
+            rejected.add(BulkCreateCapacityItemResponse.failed(index, name, CreateCapacityRules.CAPACITY_DUPLICATED_MESSAGE));
+          } else if (commands.get(index).getTechnologyNames().stream().anyMatch(missingTechnologies::contains)) {
+            rejected.add(BulkCreateCapacityItemResponse.failed(index, name, CreateCapacityRules.TECHNOLOGY_NOT_FOUND_MESSAGE));
+          } else {
+            accepted.put(index, capacity);
+          }
+        });
+
+        if (accepted.isEmpty()) {
+          return Mono.just(toResponse(rejected, List.of()));
+        }
+
+        // Both levels are bounded, so a full bulk keeps at most perRequest technology calls in flight
+        return capacityGateway.saveAll(List.copyOf(accepted.values()))
+          .collectMap(saved -> saved.getName().getValue())
+          .flatMapMany(saved -> Flux.fromIterable(accepted.keySet())
+            .flatMap(index -> {
+              Capacity capacity = saved.get(accepted.get(index).getName().getValue());
+              return CapacityEvents.publish(capacityEventGateway, CapacityEventType.CAPACITY_CREATED, capacity.getId().getValue(), null)
+                .then(associate(index, capacity, commands.get(index).getTechnologyNames()));
+            }, technologyConcurrency.capacities()))
+          .collectList()
+          .map(created -> toResponse(rejected, created));
+      });
+  }
+
+  private Mono<BulkCreateCapacityItemResponse> associate(int index, Capacity capacity, List<String> technologyNames) {
+    return Flux.fromIterable(technologyNames)
+      .flatMap(t -> technologyGateway.associateTechnology(new CapacityTechnology(t, capacity.getId().getValue())),
+        technologyConcurrency.perCapacity())
+      .collectList()
+      .map(technologies -> BulkCreateCapacityItemResponse.created(index, new CapacityResponse(
+        capacity.getId().getValue(),
+        capacity.getName().getValue(),
+        capacity.getDescription().getValue(),
+        technologies
+          .stream()
+          .map(technology -> new TechnologyResponse(
+            technology.getId().getValue(),
+            technology.getName().getValue(),
+            technology.getDescription().getValue())
+          ).toList()
+      )))
+      .onErrorResume(error -> Mono.just(BulkCreateCapacityItemResponse.failed(index, capacity.getName().getValue(),
+        error instanceof BussinessException ? error.getMessage() : ASSOCIATION_FAILED_MESSAGE)));
+  }
+
+  private BulkCreateCapacitiesResponse toResponse(List<BulkCreateCapacityItemResponse> failures,
+                                                  List<BulkCreateCapacityItemResponse> created) {
+    return new BulkCreateCapacitiesResponse(Stream.concat(failures.stream(), created.stream())
+      .sorted(Comparator.comparingInt(BulkCreateCapacityItemResponse::getIndex))
+      .toList());
+  }
+}
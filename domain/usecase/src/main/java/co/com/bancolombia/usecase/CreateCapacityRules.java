@@ -0,0 +1,48 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public final class CreateCapacityRules {
+  public static final String TECHNOLOGIES_DUPLICATED_MESSAGE = "The capacity should not have duplicated technologies.";
+  public static final String CAPACITY_LOWER_BOUND_MESSAGE = "The capacity should have 3 technologies minimum.";
+  public static final String CAPACITY_UPPER_BOUND_MESSAGE = "The capacity should have 20 technologies maximum.";
+  public static final String TECHNOLOGY_NOT_FOUND_MESSAGE = "Some technologies have not been found.";
+  public static final String CAPACITY_DUPLICATED_MESSAGE = "The capacity name cannot be duplicated.";
+
+  private CreateCapacityRules() {
+  }
+
+  static Optional<String> technologiesViolation(List<String> technologyNames) {
+    if (technologyNames == null || technologyNames.size() < 3) {
+      return Optional.of(CAPACITY_LOWER_BOUND_MESSAGE);
+    }
+
+    if (technologyNames.size() > 20) {
+      return Optional.of(CAPACITY_UPPER_BOUND_MESSAGE);
+    }
+
+    if (technologyNames.stream().distinct().count() != technologyNames.size()) {
+      return Optional.of(TECHNOLOGIES_DUPLICATED_MESSAGE);
+    }
+    return Optional.empty();
+  }
+
+  // Names are ticked off as the catalog streams in; the catalog is cancelled once the last one is seen
+  static Mono<Set<String>> missingTechnologies(TechnologyGateway technologyGateway, Collection<String> technologyNames) {
+    return Mono.defer(() -> {
+      Set<String> pendingNames = new HashSet<>(technologyNames);
+      return technologyGateway.findAll()
+        .map(t -> t.getName().getValue())
+        .filter(pendingNames::remove)
+        .takeUntil(name -> pendingNames.isEmpty())
+        .then(Mono.fromSupplier(() -> pendingNames));
+    });
+  }
+}
@@ -1,7 +1,10 @@
 package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacityEventType;
 import co.com.bancolombia.model.capacity.CapacityTechnology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.usecase.command.CreateCapacityCommand;
@@ -11,47 +14,41 @@ import co.com.bancolombia.usecase.response.TechnologyResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 public class CreateCapacityUseCase {
-  private final String TECHNOLOGIES_DUPLICATED_MESSAGE = "The capacity should not have duplicated technologies.";
-  private final String CAPACITY_LOWER_BOUND_MESSAGE = "The capacity should have 3 technologies minimum.";
-  private final String CAPACITY_UPPER_BOUND_MESSAGE = "The capacity should have 20 technologies maximum.";
-  private final String TECHNOLOGY_NOT_FOUND_MESSAGE = "Some technologies have not been found.";
-  private final String CAPACITY_DUPLICATED_MESSAGE = "The capacity name cannot be duplicated.";
   private final CapacityGateway capacityGateway;
   private final TechnologyGateway technologyGateway;
+  private final CapacityEventGateway capacityEventGateway;
+  private final TechnologyConcurrency technologyConcurrency;
 
-  public CreateCapacityUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway) {
+  public CreateCapacityUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway,
+                               CapacityEventGateway capacityEventGateway, TechnologyConcurrency technologyConcurrency) {
     this.capacityGateway = capacityGateway;
     this.technologyGateway = technologyGateway;
+    this.capacityEventGateway = capacityEventGateway;
+    this.technologyConcurrency = technologyConcurrency;
   }
 
   public Mono<CapacityResponse> execute(CreateCapacityCommand command) {
-    if (isWrongMinQuantityTechnologies(command.getTechnologyNames())) {
-      return Mono.error(new BussinessException(CAPACITY_LOWER_BOUND_MESSAGE));
-    }
-
-    if (isWrongMaxQuantityTechnologies(command.getTechnologyNames())) {
-      return Mono.error(new BussinessException(CAPACITY_UPPER_BOUND_MESSAGE));
-    }
-
-    if (existsDuplicatedTechnologies(command.getTechnologyNames())) {
-      return Mono.error(new BussinessException(TECHNOLOGIES_DUPLICATED_MESSAGE));
+    Optional<String> violation = CreateCapacityRules.technologiesViolation(command.getTechnologyNames());
+    if (violation.isPresent()) {
+      return Mono.error(new BussinessException(violation.get()));
     }
 
     return capacityGateway.existsByName(command.getName())
       .flatMap(exists -> {
         if (Boolean.TRUE.equals(exists)) {
-          return Mono.error(new BussinessException(CAPACITY_DUPLICATED_MESSAGE));
+          return Mono.error(new BussinessException(CreateCapacityRules.CAPACITY_DUPLICATED_MESSAGE));
         }
 
         return validateTechnologiesExisting(command.getTechnologyNames())
           .flatMap(valid -> capacityGateway.save(new Capacity(command.getName(), command.getDescription()))
           .flatMap(capacity -> Flux
             .fromIterable(command.getTechnologyNames())
-            .flatMap(t -> technologyGateway.associateTechnology(new CapacityTechnology(t, capacity.getId().getValue())), 20)
+            .flatMap(t -> technologyGateway.associateTechnology(new CapacityTechnology(t, capacity.getId().getValue())),
+              technologyConcurrency.perRequest())
             .collectList()
             .map(technologies -> new CapacityResponse(
               capacity.getId().getValue(),
@@ -67,26 +64,15 @@ public class CreateCapacityUseCase {
               )
             )
           ));
-      });
-  }
-
-  private Boolean isWrongMinQuantityTechnologies(List<String> technologyNames) {
-    return technologyNames.size() < 3;
-  }
-
-  private Boolean isWrongMaxQuantityTechnologies(List<String> technologyNames) {
-    return technologyNames.size() > 20;
-  }
-
-  private Boolean existsDuplicatedTechnologies(List<String> technologyNames) {
-    return technologyNames.stream().distinct().count() != technologyNames.size();
+      })
+      .flatMap(response -> CapacityEvents.publish(capacityEventGateway, CapacityEventType.CAPACITY_CREATED, response.getCapacityId(), null)
+        .thenReturn(response));
   }
 
   private Mono<Boolean> validateTechnologiesExisting(List<String> technologyNames) {
-    return technologyGateway.findAll()
-      .map(t -> t.getName().getValue())
-      .collectList()
-      .map(existingNames -> new HashSet<>(existingNames).containsAll(technologyNames))
-      .flatMap(allExist -> allExist ? Mono.just(true) : Mono.error(new BussinessException(TECHNOLOGY_NOT_FOUND_MESSAGE)));
+    return CreateCapacityRules.missingTechnologies(technologyGateway, technologyNames)
+      .flatMap(missing -> missing.isEmpty()
+        ? Mono.just(true)
+        : Mono.error(new BussinessException(CreateCapacityRules.TECHNOLOGY_NOT_FOUND_MESSAGE)));
   }
 }
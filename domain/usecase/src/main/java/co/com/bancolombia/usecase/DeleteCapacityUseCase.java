@@ -1,5 +1,8 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.usecase.exception.BussinessException;
@@ -9,14 +12,19 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 
 public class DeleteCapacityUseCase {
-  private final String BOOTCAMP_ID_CANNOT_BE_NULL_MESSAGE = "Bootcamp ID cannot be null";
+  public static final String BOOTCAMP_ID_CANNOT_BE_NULL_MESSAGE = "Bootcamp ID cannot be null";
   private final String BOOTCAMP_NOT_FOUND_MESSAGE = "Bootcamp has not been found. Bootcamp id: ";
   private final CapacityGateway gateway;
   private final TechnologyGateway technologyGateway;
+  private final CapacityEventGateway capacityEventGateway;
+  private final TechnologyConcurrency technologyConcurrency;
 
-  public DeleteCapacityUseCase(CapacityGateway gateway, TechnologyGateway technologyGateway) {
+  public DeleteCapacityUseCase(CapacityGateway gateway, TechnologyGateway technologyGateway,
+                               CapacityEventGateway capacityEventGateway, TechnologyConcurrency technologyConcurrency) {
     this.gateway = gateway;
     this.technologyGateway = technologyGateway;
+    this.capacityEventGateway = capacityEventGateway;
+    this.technologyConcurrency = technologyConcurrency;
   }
 
   public Mono<List<Long>> execute(Long bootcampId) {
@@ -33,20 +41,22 @@ public class DeleteCapacityUseCase {
 
         return Flux.fromIterable(capacities)
           .flatMap(capacity -> {
-            Long capacityId = capacity.getId().getValue();
+            Long capacityId = capacity.capacityId();
             
             return gateway.countBootcampsByCapacityId(capacityId)
               .flatMap(bootcampCount -> {
                 if (bootcampCount == 1) {
                   return technologyGateway.deleteTechnologiesByCapacity(capacityId)
                     .then(gateway.delete(capacityId))
+                    .then(CapacityEvents.publish(capacityEventGateway, CapacityEventType.CAPACITY_DELETED, capacityId, bootcampId))
                     .then(Mono.just(capacityId));
                 } else {
                   return gateway.deleteCapacityBootcampRelation(capacityId, bootcampId)
+                    .then(CapacityEvents.publish(capacityEventGateway, CapacityEventType.ASSOCIATION_REMOVED, capacityId, bootcampId))
                     .then(Mono.just(capacityId));
                 }
               });
-          })
+          }, technologyConcurrency.perRequest())
           .collectList();
       });
   }
@@ -0,0 +1,23 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.idempotency.gateway.IdempotencyGateway;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class ExpireIdempotencyKeysUseCase {
+  private final IdempotencyGateway idempotencyGateway;
+
+  public ExpireIdempotencyKeysUseCase(IdempotencyGateway idempotencyGateway) {
+    this.idempotencyGateway = idempotencyGateway;
+  }
+
+  // Claims that never completed belong to instances that died mid-request; they are freed after claimTimeout
+  public Mono<Long> execute(Duration retention, Duration claimTimeout) {
+    return Mono.defer(() -> {
+      Instant now = Instant.now();
+      return idempotencyGateway.deleteExpired(now.minus(retention), now.minus(claimTimeout));
+    });
+  }
+}
@@ -1,5 +1,6 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.capacity.CapacitySummary;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import reactor.core.publisher.Flux;
 
@@ -11,6 +12,6 @@ public class GetAllCapacityIdsUseCase {
   }
 
   public Flux<Long> execute() {
-    return capacityGateway.findAll().map(capacity -> capacity.getId().getValue());
+    return capacityGateway.findAll().map(CapacitySummary::capacityId);
   }
 }
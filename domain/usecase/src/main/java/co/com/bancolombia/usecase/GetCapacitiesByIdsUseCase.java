@@ -0,0 +1,67 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.CapacitySummary;
+import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesByIdsResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+public class GetCapacitiesByIdsUseCase {
+  private static final int MAX_IDS = 100;
+  private final String IDS_SIZE_MESSAGE = "The ids should have between 1 and 100 elements.";
+  private final CapacityGateway capacityGateway;
+  private final TechnologyGateway technologyGateway;
+
+  public GetCapacitiesByIdsUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway) {
+    this.capacityGateway = capacityGateway;
+    this.technologyGateway = technologyGateway;
+  }
+
+  public Mono<GetCapacitiesByIdsResponse> execute(List<Long> capacityIds) {
+    List<Long> ids = capacityIds == null ? List.of() : capacityIds.stream().filter(Objects::nonNull).distinct().toList();
+    if (ids.isEmpty() || ids.size() > MAX_IDS) {
+      return Mono.error(new BussinessException(IDS_SIZE_MESSAGE));
+    }
+
+    return capacityGateway.findByIds(ids)
+      .collectMap(CapacitySummary::capacityId)
+      .flatMap(found -> {
+        List<Long> foundIds = ids.stream().filter(found::containsKey).toList();
+        List<Long> missingIds = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        if (foundIds.isEmpty()) {
+          return Mono.just(new GetCapacitiesByIdsResponse(List.of(), missingIds));
+        }
+
+        // One call for the technologies of every capacity found, instead of one per capacity
+        return technologyGateway.findByCapacityIds(foundIds)
+          .map(technologiesById -> new GetCapacitiesByIdsResponse(
+            foundIds.stream()
+              .map(id -> toResponse(found.get(id), technologiesById.getOrDefault(id, List.of())))
+              .toList(),
+            missingIds));
+      });
+  }
+
+  private CapacityResponse toResponse(CapacitySummary capacity, List<Technology> technologies) {
+    return new CapacityResponse(
+      capacity.capacityId(),
+      capacity.name(),
+      capacity.description(),
+      technologies
+        .stream()
+        .map(technology -> new TechnologyResponse(
+          technology.getId().getValue(),
+          technology.getName().getValue(),
+          technology.getDescription().getValue())
+        ).toList(),
+      technologies.stream().anyMatch(Technology::isDegraded)
+    );
+  }
+}
@@ -1,5 +1,7 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.usecase.response.CapacityResponse;
@@ -9,29 +11,48 @@ import reactor.core.publisher.Flux;
 public class GetCapacityByBootcampUseCase {
   private final CapacityGateway capacityGateway;
   private final TechnologyGateway technologyGateway;
+  private final TechnologyConcurrency technologyConcurrency;
 
-  public GetCapacityByBootcampUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway) {
+  public GetCapacityByBootcampUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway,
+                                      TechnologyConcurrency technologyConcurrency) {
     this.capacityGateway = capacityGateway;
     this.technologyGateway = technologyGateway;
+    this.technologyConcurrency = technologyConcurrency;
   }
 
   public Flux<CapacityResponse> execute(Long bootcmapId) {
+    return execute(bootcmapId, true);
+  }
+
+  public Flux<CapacityResponse> execute(Long bootcmapId, boolean withTechnologies) {
+    if (!withTechnologies) {
+      // Technologies were not asked for, so the technology service is not called at all
+      return capacityGateway.findByBootcamp(bootcmapId)
+        .map(capacity -> new CapacityResponse(
+          capacity.capacityId(),
+          capacity.name(),
+          capacity.description(),
+          null));
+    }
+
     return capacityGateway.findByBootcamp(bootcmapId)
       .flatMap(capacity -> technologyGateway
-        .findByCapacityId(capacity.getId().getValue())
-        .map(technology -> new TechnologyResponse(
-            technology.getId().getValue(),
-            technology.getName().getValue(),
-            technology.getDescription().getValue()
-          )
-        ).collectList()
+        .findByCapacityId(capacity.capacityId())
+        .collectList()
         .map(technologies -> new CapacityResponse(
-            capacity.getId().getValue(),
-            capacity.getName().getValue(),
-            capacity.getDescription().getValue(),
+            capacity.capacityId(),
+            capacity.name(),
+            capacity.description(),
             technologies
+              .stream()
+              .map(technology -> new TechnologyResponse(
+                technology.getId().getValue(),
+                technology.getName().getValue(),
+                technology.getDescription().getValue())
+              ).toList(),
+            technologies.stream().anyMatch(Technology::isDegraded)
           )
         )
-      , 20);
+      , technologyConcurrency.perRequest());
   }
 }
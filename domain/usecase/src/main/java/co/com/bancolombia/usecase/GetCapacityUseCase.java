@@ -1,11 +1,13 @@
 package co.com.bancolombia.usecase;
 
+import co.com.bancolombia.model.capacity.Technology;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.usecase.response.CapacityResponse;
 import co.com.bancolombia.usecase.response.TechnologyResponse;
 import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
 import co.com.bancolombia.usecase.response.FilterResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.Comparator;
 import java.util.List;
@@ -21,22 +23,28 @@ public class GetCapacityUseCase {
   }
 
   public Mono<GetCapacitiesResponse> execute(int page, int size, String sortBy, String order) {
+    return execute(page, size, sortBy, order, true);
+  }
+
+  public Mono<GetCapacitiesResponse> execute(int page, int size, String sortBy, String order, boolean withTechnologies) {
     if ("technologies".equalsIgnoreCase(sortBy)) {
+      // Sorting needs every technology count, so they are fetched even when the caller does not want them back
       return capacityGateway.findAll()
         .concatMap(capacity -> technologyGateway
-          .findByCapacityId(capacity.getId().getValue())
+          .findByCapacityId(capacity.capacityId())
           .collectList()
           .map(technologies -> new CapacityResponse(
-              capacity.getId().getValue(),
-              capacity.getName().getValue(),
-              capacity.getDescription().getValue(),
+              capacity.capacityId(),
+              capacity.name(),
+              capacity.description(),
               technologies
                 .stream()
                 .map(technology -> new TechnologyResponse(
                   technology.getId().getValue(),
                   technology.getName().getValue(),
                   technology.getDescription().getValue())
-                ).toList()
+                ).toList(),
+              technologies.stream().anyMatch(Technology::isDegraded)
             )
           )
         )
@@ -49,31 +57,62 @@ public class GetCapacityUseCase {
           List<CapacityResponse> sorted = list.stream().sorted(comparator).collect(Collectors.toList());
           int from = Math.max(page, 0) * Math.max(size, 0);
           int to = Math.min(sorted.size(), from + Math.max(size, 0));
-          List<CapacityResponse> slice = from < to ? sorted.subList(from, to) : List.of();
-          return new GetCapacitiesResponse(slice, new FilterResponse(page, size, sortBy, order));
+          List<CapacityResponse> slice = (from < to ? sorted.subList(from, to) : List.<CapacityResponse>of()).stream()
+            .map(capacity -> withTechnologies ? capacity : withoutTechnologies(capacity))
+            .toList();
+          return new GetCapacitiesResponse(slice, new FilterResponse(page, size, sortBy, order), sorted.size(), totalPages(sorted.size(), size));
         });
     }
 
     // Default: sort by name handled by the repository (DB level) with stable pagination
+    if (!withTechnologies) {
+      return capacityGateway.findAllPagedSorted(page, size, sortBy, order)
+        .map(capacityPage -> new GetCapacitiesResponse(
+          capacityPage.capacities().stream()
+            .map(capacity -> new CapacityResponse(
+              capacity.capacityId(),
+              capacity.name(),
+              capacity.description(),
+              null))
+            .toList(),
+          new FilterResponse(page, size, sortBy, order),
+          capacityPage.totalElements(),
+          totalPages(capacityPage.totalElements(), size)));
+    }
+
     return capacityGateway.findAllPagedSorted(page, size, sortBy, order)
-      .concatMap(capacity -> technologyGateway
-        .findByCapacityId(capacity.getId().getValue())
-        .collectList()
-        .map(technologies -> new CapacityResponse(
-            capacity.getId().getValue(),
-            capacity.getName().getValue(),
-            capacity.getDescription().getValue(),
-            technologies
-              .stream()
-              .map(technology -> new TechnologyResponse(
-                technology.getId().getValue(),
-                technology.getName().getValue(),
-                technology.getDescription().getValue())
-              ).toList()
+      .flatMap(capacityPage -> Flux.fromIterable(capacityPage.capacities())
+        .concatMap(capacity -> technologyGateway
+          .findByCapacityId(capacity.capacityId())
+          .collectList()
+          .map(technologies -> new CapacityResponse(
+              capacity.capacityId(),
+              capacity.name(),
+              capacity.description(),
+              technologies
+                .stream()
+                .map(technology -> new TechnologyResponse(
+                  technology.getId().getValue(),
+                  technology.getName().getValue(),
+                  technology.getDescription().getValue())
+                ).toList(),
+              technologies.stream().anyMatch(Technology::isDegraded)
+            )
           )
         )
-      )
-      .collectList()
-      .map(capacities -> new GetCapacitiesResponse(capacities, new FilterResponse(page, size, sortBy, order)));
+        .collectList()
+        .map(capacities -> new GetCapacitiesResponse(
+          capacities,
+          new FilterResponse(page, size, sortBy, order),
+          capacityPage.totalElements(),
+          totalPages(capacityPage.totalElements(), size))));
+  }
+
+  private CapacityResponse withoutTechnologies(CapacityResponse capacity) {
+    return new CapacityResponse(capacity.getCapacityId(), capacity.getName(), capacity.getDescription(), null);
+  }
+
+  private int totalPages(long totalElements, int size) {
+    return size > 0 ? (int) ((totalElements + size - 1) / size) : 0;
   }
 }
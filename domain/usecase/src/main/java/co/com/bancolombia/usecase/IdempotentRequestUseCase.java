@@ -0,0 +1,44 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.idempotency.IdempotentResponse;
+import co.com.bancolombia.model.idempotency.gateway.IdempotencyGateway;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import reactor.core.publisher.Mono;
+
+public class IdempotentRequestUseCase {
+  public static final String KEY_REUSED_MESSAGE = "The Idempotency-Key was already used with a different request.";
+  public static final String REQUEST_IN_PROGRESS_MESSAGE = "A request with this Idempotency-Key is still being processed.";
+  private final IdempotencyGateway idempotencyGateway;
+
+  public IdempotentRequestUseCase(IdempotencyGateway idempotencyGateway) {
+    this.idempotencyGateway = idempotencyGateway;
+  }
+
+  public Mono<IdempotentResponse> execute(String key, String fingerprint, Mono<IdempotentResponse> action) {
+    return idempotencyGateway.claim(key, fingerprint)
+      .flatMap(claimed -> Boolean.TRUE.equals(claimed) ? run(key, action) : replay(key, fingerprint));
+  }
+
+  // Server errors are not kept, so the claim is dropped and the client can retry them with the same key
+  private Mono<IdempotentResponse> run(String key, Mono<IdempotentResponse> action) {
+    return action
+      .flatMap(response -> (response.isServerError()
+        ? idempotencyGateway.release(key)
+        : idempotencyGateway.complete(key, response))
+        .thenReturn(response))
+      .switchIfEmpty(Mono.defer(() -> idempotencyGateway.release(key).then(Mono.empty())))
+      .onErrorResume(error -> idempotencyGateway.release(key).then(Mono.error(error)))
+      .doOnCancel(() -> idempotencyGateway.release(key).onErrorResume(error -> Mono.empty()).subscribe());
+  }
+
+  private Mono<IdempotentResponse> replay(String key, String fingerprint) {
+    return idempotencyGateway.find(key)
+      .flatMap(record -> {
+        if (!record.getFingerprint().equals(fingerprint)) {
+          return Mono.<IdempotentResponse>error(new BussinessException(KEY_REUSED_MESSAGE));
+        }
+        return record.isCompleted() ? Mono.just(record.getResponse()) : Mono.<IdempotentResponse>empty();
+      })
+      .switchIfEmpty(Mono.error(new BussinessException(REQUEST_IN_PROGRESS_MESSAGE)));
+  }
+}
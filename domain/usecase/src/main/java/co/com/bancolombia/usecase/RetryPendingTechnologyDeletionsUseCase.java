@@ -0,0 +1,26 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.gateway.TechnologyDeletionQueueGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import reactor.core.publisher.Mono;
+
+public class RetryPendingTechnologyDeletionsUseCase {
+  private final TechnologyDeletionQueueGateway deletionQueueGateway;
+  private final TechnologyGateway technologyGateway;
+
+  public RetryPendingTechnologyDeletionsUseCase(TechnologyDeletionQueueGateway deletionQueueGateway,
+                                                TechnologyGateway technologyGateway) {
+    this.deletionQueueGateway = deletionQueueGateway;
+    this.technologyGateway = technologyGateway;
+  }
+
+  public Mono<Long> execute(int batchSize) {
+    // An empty answer means the gateway queued the deletion again and a failure leaves it queued,
+    // so only a real answer clears the entry
+    return deletionQueueGateway.findPending(batchSize)
+      .concatMap(capacityId -> technologyGateway.deleteTechnologiesByCapacity(capacityId)
+        .flatMap(deletedIds -> deletionQueueGateway.remove(capacityId).thenReturn(capacityId))
+        .onErrorResume(error -> Mono.empty()))
+      .count();
+  }
+}
@@ -0,0 +1,122 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.ScoredCapacity;
+import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.SearchCapacitiesResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+public class SearchCapacitiesUseCase {
+  private final String SEARCH_TEXT_LOWER_BOUND_MESSAGE = "The search text should have 3 characters minimum.";
+  private final String SEARCH_SIZE_BOUNDS_MESSAGE = "The search size should be between 1 and 50.";
+  private final String INVALID_CURSOR_MESSAGE = "The search cursor is not valid.";
+  private static final int MIN_SEARCH_TEXT_LENGTH = 3;
+  private static final int MAX_SEARCH_SIZE = 50;
+  private static final String CURSOR_SEPARATOR = ":";
+  private final CapacityGateway capacityGateway;
+  private final TechnologyGateway technologyGateway;
+  private final TechnologyConcurrency technologyConcurrency;
+
+  public SearchCapacitiesUseCase(CapacityGateway capacityGateway, TechnologyGateway technologyGateway,
+                                 TechnologyConcurrency technologyConcurrency) {
+    this.capacityGateway = capacityGateway;
+    this.technologyGateway = technologyGateway;
+    this.technologyConcurrency = technologyConcurrency;
+  }
+
+  public Mono<SearchCapacitiesResponse> execute(String text, String technology, String cursor, int size) {
+    return execute(text, technology, cursor, size, true);
+  }
+
+  public Mono<SearchCapacitiesResponse> execute(String text, String technology, String cursor, int size,
+                                                boolean withTechnologies) {
+    if (text == null || text.trim().length() < MIN_SEARCH_TEXT_LENGTH) {
+      return Mono.error(new BussinessException(SEARCH_TEXT_LOWER_BOUND_MESSAGE));
+    }
+
+    if (size < 1 || size > MAX_SEARCH_SIZE) {
+      return Mono.error(new BussinessException(SEARCH_SIZE_BOUNDS_MESSAGE));
+    }
+
+    Float afterScore = null;
+    Long afterId = null;
+    if (cursor != null) {
+      try {
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR);
+        afterScore = Float.parseFloat(parts[0]);
+        afterId = Long.parseLong(parts[1]);
+      } catch (RuntimeException e) {
+        return Mono.error(new BussinessException(INVALID_CURSOR_MESSAGE));
+      }
+    }
+
+    if (technology == null && !withTechnologies) {
+      // Neither the filter nor the caller needs technologies, so the technology service is not called at all
+      return capacityGateway.search(text.trim(), afterScore, afterId, size)
+        .collectList()
+        .map(hits -> new SearchCapacitiesResponse(
+          hits.stream()
+            .map(hit -> new CapacityResponse(
+              hit.getCapacity().getId().getValue(),
+              hit.getCapacity().getName().getValue(),
+              hit.getCapacity().getDescription().getValue(),
+              null))
+            .toList(),
+          nextCursor(hits, size)));
+    }
+
+    // The cursor always points at the last scanned row, so a technology filter may shorten a page but never skips matches
+    return capacityGateway.search(text.trim(), afterScore, afterId, size)
+      .collectList()
+      .flatMap(hits -> Flux.fromIterable(hits)
+        .flatMapSequential(hit -> technologyGateway
+          .findByCapacityId(hit.getCapacity().getId().getValue())
+          .collectList()
+          .map(technologies -> new CapacityResponse(
+            hit.getCapacity().getId().getValue(),
+            hit.getCapacity().getName().getValue(),
+            hit.getCapacity().getDescription().getValue(),
+            technologies.stream()
+              .map(t -> new TechnologyResponse(
+                t.getId().getValue(),
+                t.getName().getValue(),
+                t.getDescription().getValue()))
+              .toList(),
+            technologies.stream().anyMatch(Technology::isDegraded)
+          ))
+        , technologyConcurrency.perRequest())
+        .filter(capacity -> technology == null || hasTechnology(capacity, technology))
+        .map(capacity -> withTechnologies ? capacity : withoutTechnologies(capacity))
+        .collectList()
+        .map(capacities -> new SearchCapacitiesResponse(capacities, nextCursor(hits, size)))
+      );
+  }
+
+  private CapacityResponse withoutTechnologies(CapacityResponse capacity) {
+    return new CapacityResponse(capacity.getCapacityId(), capacity.getName(), capacity.getDescription(), null);
+  }
+
+  private boolean hasTechnology(CapacityResponse capacity, String technology) {
+    return capacity.getTechnologies().stream().anyMatch(t -> t.getName().equalsIgnoreCase(technology.trim()));
+  }
+
+  private String nextCursor(List<ScoredCapacity> hits, int size) {
+    if (hits.size() < size) {
+      return null;
+    }
+
+    ScoredCapacity last = hits.get(hits.size() - 1);
+    String raw = last.getScore() + CURSOR_SEPARATOR + last.getCapacity().getId().getValue();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
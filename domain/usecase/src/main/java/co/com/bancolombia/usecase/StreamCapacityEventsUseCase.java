@@ -0,0 +1,24 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
+import co.com.bancolombia.usecase.response.CapacityEventResponse;
+import reactor.core.publisher.Flux;
+
+public class StreamCapacityEventsUseCase {
+  private final CapacityEventGateway capacityEventGateway;
+
+  public StreamCapacityEventsUseCase(CapacityEventGateway capacityEventGateway) {
+    this.capacityEventGateway = capacityEventGateway;
+  }
+
+  public Flux<CapacityEventResponse> execute(Long lastEventId, Long bootcampId) {
+    return capacityEventGateway.stream(lastEventId)
+      .filter(event -> bootcampId == null || bootcampId.equals(event.getBootcampId()))
+      .map(event -> new CapacityEventResponse(
+        event.getEventId(),
+        event.getType().name(),
+        event.getCapacityId(),
+        event.getBootcampId(),
+        event.getOccurredAt()));
+  }
+}
@@ -1,15 +1,16 @@
 package co.com.bancolombia.usecase.exception;
 
+// Expected failure reported to the caller as is, so it skips the stack trace and suppression bookkeeping
 public class BussinessException extends RuntimeException {
   public BussinessException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public BussinessException(String message, Throwable cause) {
-    super(message, cause);
+    super(message, cause, false, false);
   }
 
   public BussinessException(Throwable cause) {
-    super(cause);
+    super(cause == null ? null : cause.toString(), cause, false, false);
   }
 }
@@ -0,0 +1,21 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class BulkCreateCapacitiesResponse {
+  private final List<BulkCreateCapacityItemResponse> results;
+  private final int created;
+  private final int failed;
+
+  public BulkCreateCapacitiesResponse(List<BulkCreateCapacityItemResponse> results) {
+    this.results = results;
+    this.created = (int) results.stream()
+      .filter(result -> BulkCreateCapacityItemResponse.CREATED.equals(result.getStatus()))
+      .count();
+    this.failed = results.size() - created;
+  }
+
+  public List<BulkCreateCapacityItemResponse> getResults() { return results; }
+  public int getCreated() { return created; }
+  public int getFailed() { return failed; }
+}
@@ -0,0 +1,34 @@
+package co.com.bancolombia.usecase.response;
+
+public class BulkCreateCapacityItemResponse {
+  public static final String CREATED = "CREATED";
+  public static final String FAILED = "FAILED";
+
+  private final int index;
+  private final String name;
+  private final String status;
+  private final CapacityResponse capacity;
+  private final String error;
+
+  public BulkCreateCapacityItemResponse(int index, String name, String status, CapacityResponse capacity, String error) {
+    this.index = index;
+    this.name = name;
+    this.status = status;
+    this.capacity = capacity;
+    this.error = error;
+  }
+
+  public static BulkCreateCapacityItemResponse created(int index, CapacityResponse capacity) {
+    return new BulkCreateCapacityItemResponse(index, capacity.getName(), CREATED, capacity, null);
+  }
+
+  public static BulkCreateCapacityItemResponse failed(int index, String name, String error) {
+    return new BulkCreateCapacityItemResponse(index, name, FAILED, null, error);
+  }
+
+  public int getIndex() { return index; }
+  public String getName() { return name; }
+  public String getStatus() { return status; }
+  public CapacityResponse getCapacity() { return capacity; }
+  public String getError() { return error; }
+}
@@ -0,0 +1,25 @@
+package co.com.bancolombia.usecase.response;
+
+import java.time.Instant;
+
+public class CapacityEventResponse {
+  private final Long eventId;
+  private final String type;
+  private final Long capacityId;
+  private final Long bootcampId;
+  private final Instant occurredAt;
+
+  public CapacityEventResponse(Long eventId, String type, Long capacityId, Long bootcampId, Instant occurredAt) {
+    this.eventId = eventId;
+    this.type = type;
+    this.capacityId = capacityId;
+    this.bootcampId = bootcampId;
+    this.occurredAt = occurredAt;
+  }
+
+  public Long getEventId() { return eventId; }
+  public String getType() { return type; }
+  public Long getCapacityId() { return capacityId; }
+  public Long getBootcampId() { return bootcampId; }
+  public Instant getOccurredAt() { return occurredAt; }
+}
@@ -7,12 +7,19 @@ public class CapacityResponse {
   private final String name;
   private final String description;
   private final List<TechnologyResponse> technologies;
+  private final boolean degraded;
 
   public CapacityResponse(Long capacityId, String name, String description, List<TechnologyResponse> technologies) {
+    this(capacityId, name, description, technologies, false);
+  }
+
+  public CapacityResponse(Long capacityId, String name, String description, List<TechnologyResponse> technologies,
+                          boolean degraded) {
     this.capacityId = capacityId;
     this.name = name;
     this.description = description;
     this.technologies = technologies;
+    this.degraded = degraded;
   }
 
   public Long getCapacityId() {
@@ -30,4 +37,8 @@ public class CapacityResponse {
   public List<TechnologyResponse> getTechnologies() {
     return technologies;
   }
+
+  public boolean isDegraded() {
+    return degraded;
+  }
 }
@@ -0,0 +1,16 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class GetCapacitiesByIdsResponse {
+  private final List<CapacityResponse> capacities;
+  private final List<Long> missingIds;
+
+  public GetCapacitiesByIdsResponse(List<CapacityResponse> capacities, List<Long> missingIds) {
+    this.capacities = capacities;
+    this.missingIds = missingIds;
+  }
+
+  public List<CapacityResponse> getCapacities() { return capacities; }
+  public List<Long> getMissingIds() { return missingIds; }
+}
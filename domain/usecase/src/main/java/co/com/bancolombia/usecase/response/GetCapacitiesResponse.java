@@ -5,14 +5,20 @@ import java.util.List;
 public class GetCapacitiesResponse {
   private final List<CapacityResponse> capacities;
   private final FilterResponse filter;
+  private final long totalElements;
+  private final int totalPages;
 
-  public GetCapacitiesResponse(List<CapacityResponse> capacities, FilterResponse filter) {
+  public GetCapacitiesResponse(List<CapacityResponse> capacities, FilterResponse filter, long totalElements, int totalPages) {
     this.capacities = capacities;
     this.filter = filter;
+    this.totalElements = totalElements;
+    this.totalPages = totalPages;
   }
 
   public List<CapacityResponse> getCapacities() { return capacities; }
   public FilterResponse getFilter() { return filter; }
+  public long getTotalElements() { return totalElements; }
+  public int getTotalPages() { return totalPages; }
 }
 
 
@@ -0,0 +1,16 @@
+package co.com.bancolombia.usecase.response;
+
+import java.util.List;
+
+public class SearchCapacitiesResponse {
+  private final List<CapacityResponse> capacities;
+  private final String nextCursor;
+
+  public SearchCapacitiesResponse(List<CapacityResponse> capacities, String nextCursor) {
+    this.capacities = capacities;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<CapacityResponse> getCapacities() { return capacities; }
+  public String getNextCursor() { return nextCursor; }
+}
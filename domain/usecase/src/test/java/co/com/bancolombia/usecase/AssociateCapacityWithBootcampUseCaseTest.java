@@ -3,6 +3,7 @@ package co.com.bancolombia.usecase;
 import co.com.bancolombia.model.capacity.Capacity;
 import co.com.bancolombia.model.capacity.CapacityBootcamp;
 import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.model.capacity.values.Id;
@@ -21,6 +22,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,11 +35,15 @@ class AssociateCapacityWithBootcampUseCaseTest {
   @Mock
   private TechnologyGateway technologyGateway;
 
+  @Mock
+  private CapacityEventGateway capacityEventGateway;
+
   private AssociateCapacityWithBootcampUseCase useCase;
 
   @BeforeEach
   void setUp() {
-    useCase = new AssociateCapacityWithBootcampUseCase(capacityGateway, technologyGateway);
+    useCase = new AssociateCapacityWithBootcampUseCase(capacityGateway, technologyGateway, capacityEventGateway);
+    lenient().when(capacityEventGateway.publish(any())).thenReturn(Mono.empty());
   }
 
   @Test
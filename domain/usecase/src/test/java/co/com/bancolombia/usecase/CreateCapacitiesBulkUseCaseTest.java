@@ -0,0 +1,210 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacityTechnology;
+import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
+import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.command.CreateCapacityCommand;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.BulkCreateCapacityItemResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateCapacitiesBulkUseCase Tests")
+class CreateCapacitiesBulkUseCaseTest {
+
+    private static final List<String> TECHNOLOGIES = List.of("Java", "Spring", "PostgreSQL");
+
+    @Mock
+    private CapacityGateway capacityGateway;
+
+    @Mock
+    private TechnologyGateway technologyGateway;
+
+    @Mock
+    private CapacityEventGateway capacityEventGateway;
+
+    private CreateCapacitiesBulkUseCase createCapacitiesBulkUseCase;
+
+    @BeforeEach
+    void setUp() {
+        createCapacitiesBulkUseCase = new CreateCapacitiesBulkUseCase(capacityGateway, technologyGateway, capacityEventGateway,
+            new TechnologyConcurrency(6, 3));
+        lenient().when(capacityEventGateway.publish(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("Should create every valid capacity with a single insert and report results in request order")
+    void shouldCreateValidCapacitiesWithSingleInsert() {
+        // Given
+        List<CreateCapacityCommand> commands = List.of(
+            new CreateCapacityCommand("Backend", "Backend capacity", TECHNOLOGIES),
+            new CreateCapacityCommand("Frontend", "Frontend capacity", TECHNOLOGIES));
+
+        when(capacityGateway.findExistingNames(List.of("Backend", "Frontend"))).thenReturn(Flux.empty());
+        when(technologyGateway.findAll()).thenReturn(Flux.just(
+            new Technology(1L, "Java", "Java"),
+            new Technology(2L, "Spring", "Spring"),
+            new Technology(3L, "PostgreSQL", "PostgreSQL")));
+        when(capacityGateway.saveAll(anyList())).thenReturn(Flux.just(
+            new Capacity(11L, "Backend", "Backend capacity"),
+            new Capacity(12L, "Frontend", "Frontend capacity")));
+        when(technologyGateway.associateTechnology(any(CapacityTechnology.class)))
+            .thenAnswer(invocation -> {
+                CapacityTechnology association = invocation.getArgument(0);
+                return Mono.just(new Technology(1L, association.getTechnology().getValue(), "description"));
+            });
+
+        // When & Then
+        StepVerifier.create(createCapacitiesBulkUseCase.execute(commands))
+            .assertNext(response -> {
+                assertEquals(2, response.getCreated());
+                assertEquals(0, response.getFailed());
+                assertEquals(11L, response.getResults().get(0).getCapacity().getCapacityId());
+                assertEquals(12L, response.getResults().get(1).getCapacity().getCapacityId());
+                assertEquals(3, response.getResults().get(1).getCapacity().getTechnologies().size());
+            })
+            .verifyComplete();
+
+        verify(capacityGateway, times(1)).saveAll(anyList());
+        verify(capacityGateway, never()).save(any());
+        verify(technologyGateway, times(6)).associateTechnology(any(CapacityTechnology.class));
+    }
+
+    @Test
+    @DisplayName("Should report invalid, repeated, existing and unknown-technology items without saving them")
+    void shouldReportFailedItemsWithoutSavingThem() {
+        // Given
+        List<CreateCapacityCommand> commands = List.of(
+            new CreateCapacityCommand("Backend", "Backend capacity", List.of("Java")),
+            new CreateCapacityCommand("Existing", "Existing capacity", TECHNOLOGIES),
+            new CreateCapacityCommand("Data", "Data capacity", List.of("Java", "Spring", "Cobol")),
+            new CreateCapacityCommand("Existing", "Repeated capacity", TECHNOLOGIES),
+            new CreateCapacityCommand("", "No name", TECHNOLOGIES));
+
+        when(capacityGateway.findExistingNames(List.of("Existing", "Data"))).thenReturn(Flux.just("Existing"));
+        when(technologyGateway.findAll()).thenReturn(Flux.just(
+            new Technology(1L, "Java", "Java"),
+            new Technology(2L, "Spring", "Spring"),
+            new Technology(3L, "PostgreSQL", "PostgreSQL")));
+
+        // When & Then
+        StepVerifier.create(createCapacitiesBulkUseCase.execute(commands))
+            .assertNext(response -> {
+                assertEquals(0, response.getCreated());
+                assertEquals(5, response.getFailed());
+                List<BulkCreateCapacityItemResponse> results = response.getResults();
+                assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(BulkCreateCapacityItemResponse::getIndex).toList());
+                assertEquals("The capacity should have 3 technologies minimum.", results.get(0).getError());
+                assertEquals("The capacity name cannot be duplicated.", results.get(1).getError());
+                assertEquals("Some technologies have not been found.", results.get(2).getError());
+                assertEquals("The capacity name is repeated in the request.", results.get(3).getError());
+                assertNotNull(results.get(4).getError());
+            })
+            .verifyComplete();
+
+        verify(capacityGateway, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should mark a created capacity as failed when its technologies cannot be associated")
+    void shouldMarkItemFailedWhenAssociationFails() {
+        // Given
+        List<CreateCapacityCommand> commands = List.of(
+            new CreateCapacityCommand("Backend", "Backend capacity", TECHNOLOGIES));
+
+        when(capacityGateway.findExistingNames(anyList())).thenReturn(Flux.empty());
+        when(technologyGateway.findAll()).thenReturn(Flux.just(
+            new Technology(1L, "Java", "Java"),
+            new Technology(2L, "Spring", "Spring"),
+            new Technology(3L, "PostgreSQL", "PostgreSQL")));
+        when(capacityGateway.saveAll(anyList())).thenReturn(Flux.just(new Capacity(11L, "Backend", "Backend capacity")));
+        when(technologyGateway.associateTechnology(any(CapacityTechnology.class)))
+            .thenReturn(Mono.error(new RuntimeException("Technology service unavailable")));
+
+        // When & Then
+        StepVerifier.create(createCapacitiesBulkUseCase.execute(commands))
+            .assertNext(response -> {
+                assertEquals(1, response.getFailed());
+                assertEquals(BulkCreateCapacityItemResponse.FAILED, response.getResults().get(0).getStatus());
+                assertEquals("The capacity was created but its technologies could not be associated.",
+                    response.getResults().get(0).getError());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep at most perRequest technology calls in flight across the whole batch")
+    void shouldBoundTechnologyCallsAcrossTheBatch() {
+        // Given
+        List<CreateCapacityCommand> commands = IntStream.range(0, 10)
+            .mapToObj(i -> new CreateCapacityCommand("Capacity " + i, "Description", TECHNOLOGIES))
+            .toList();
+        List<Capacity> saved = IntStream.range(0, 10)
+            .mapToObj(i -> new Capacity((long) i + 1, "Capacity " + i, "Description"))
+            .toList();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(capacityGateway.findExistingNames(anyList())).thenReturn(Flux.empty());
+        when(technologyGateway.findAll()).thenReturn(Flux.just(
+            new Technology(1L, "Java", "Java"),
+            new Technology(2L, "Spring", "Spring"),
+            new Technology(3L, "PostgreSQL", "PostgreSQL")));
+        when(capacityGateway.saveAll(anyList())).thenReturn(Flux.fromIterable(saved));
+        when(technologyGateway.associateTechnology(any(CapacityTechnology.class)))
+            .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(5))
+                .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doOnTerminate(inFlight::decrementAndGet)
+                .thenReturn(new Technology(1L, "Java", "description")));
+
+        // When & Then
+        StepVerifier.create(createCapacitiesBulkUseCase.execute(commands))
+            .assertNext(response -> assertEquals(10, response.getCreated()))
+            .verifyComplete();
+
+        assertTrue(maxInFlight.get() <= 6);
+        verify(technologyGateway, times(30)).associateTechnology(any(CapacityTechnology.class));
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized batches")
+    void shouldRejectEmptyAndOversizedBatches() {
+        // Given
+        List<CreateCapacityCommand> oversized = IntStream.range(0, 101)
+            .mapToObj(i -> new CreateCapacityCommand("Capacity " + i, "Description", TECHNOLOGIES))
+            .toList();
+
+        // When & Then
+        StepVerifier.create(createCapacitiesBulkUseCase.execute(List.of()))
+            .expectErrorMatches(error -> error instanceof BussinessException
+                && error.getMessage().equals("The bulk request should have between 1 and 100 capacities."))
+            .verify();
+
+        StepVerifier.create(createCapacitiesBulkUseCase.execute(oversized))
+            .expectError(BussinessException.class)
+            .verify();
+
+        verifyNoInteractions(capacityGateway, technologyGateway);
+    }
+}
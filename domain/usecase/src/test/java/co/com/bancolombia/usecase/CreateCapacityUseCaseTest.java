@@ -1,8 +1,11 @@
 package co.com.bancolombia.usecase;
 
 import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacityEventType;
 import co.com.bancolombia.model.capacity.CapacityTechnology;
 import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.model.capacity.values.Id;
@@ -24,6 +27,7 @@ import reactor.test.StepVerifier;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,11 +43,16 @@ class CreateCapacityUseCaseTest {
     @Mock
     private TechnologyGateway technologyGateway;
 
+    @Mock
+    private CapacityEventGateway capacityEventGateway;
+
     private CreateCapacityUseCase createCapacityUseCase;
 
     @BeforeEach
     void setUp() {
-        createCapacityUseCase = new CreateCapacityUseCase(capacityGateway, technologyGateway);
+        createCapacityUseCase = new CreateCapacityUseCase(capacityGateway, technologyGateway, capacityEventGateway,
+            new TechnologyConcurrency(20, 4));
+        lenient().when(capacityEventGateway.publish(any())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -451,4 +460,71 @@ class CreateCapacityUseCaseTest {
             )
             .verify();
     }
+
+    @Test
+    @DisplayName("Should stop reading the catalog once every requested technology has been seen")
+    void shouldStopReadingCatalogOnceEveryTechnologyWasSeen() {
+        // Given
+        String capacityName = "Backend Development";
+        String capacityDescription = "Backend development capacity";
+        CreateCapacityCommand command = new CreateCapacityCommand(
+            capacityName, capacityDescription, Arrays.asList("Java", "Spring", "PostgreSQL")
+        );
+
+        Capacity savedCapacity = new Capacity(capacityName, capacityDescription);
+        savedCapacity.setId(new Id(1L));
+
+        Technology javaTech = new Technology(1L, "Java", "Java programming language");
+        Technology springTech = new Technology(2L, "Spring", "Spring Framework");
+        Technology postgresTech = new Technology(3L, "PostgreSQL", "PostgreSQL database");
+        Technology reactTech = new Technology(4L, "React", "React library");
+        AtomicBoolean restOfCatalogRequested = new AtomicBoolean();
+
+        when(capacityGateway.existsByName(capacityName)).thenReturn(Mono.just(false));
+        when(capacityGateway.save(any(Capacity.class))).thenReturn(Mono.just(savedCapacity));
+        when(technologyGateway.findAll()).thenReturn(Flux.concat(
+            Flux.just(reactTech, javaTech, springTech, postgresTech),
+            Flux.defer(() -> {
+                restOfCatalogRequested.set(true);
+                return Flux.error(new RuntimeException("Catalog should not be read further"));
+            })));
+        when(technologyGateway.associateTechnology(any(CapacityTechnology.class)))
+            .thenReturn(Mono.just(javaTech))
+            .thenReturn(Mono.just(springTech))
+            .thenReturn(Mono.just(postgresTech));
+
+        // When & Then
+        StepVerifier.create(createCapacityUseCase.execute(command))
+            .assertNext(response -> assertEquals(3, response.getTechnologies().size()))
+            .verifyComplete();
+
+        assertFalse(restOfCatalogRequested.get());
+    }
+
+    @Test
+    @DisplayName("Should still return the created capacity when its change event cannot be published")
+    void shouldReturnCreatedCapacityWhenEventPublishFails() {
+        // Given
+        CreateCapacityCommand command = new CreateCapacityCommand(
+            "Backend Development", "Backend development capacity", Arrays.asList("Java", "Spring", "PostgreSQL"));
+        Capacity savedCapacity = new Capacity("Backend Development", "Backend development capacity");
+        savedCapacity.setId(new Id(1L));
+        Technology javaTech = new Technology(1L, "Java", "Java programming language");
+        Technology springTech = new Technology(2L, "Spring", "Spring Framework");
+        Technology postgresTech = new Technology(3L, "PostgreSQL", "PostgreSQL database");
+
+        when(capacityGateway.existsByName("Backend Development")).thenReturn(Mono.just(false));
+        when(capacityGateway.save(any(Capacity.class))).thenReturn(Mono.just(savedCapacity));
+        when(technologyGateway.findAll()).thenReturn(Flux.just(javaTech, springTech, postgresTech));
+        when(technologyGateway.associateTechnology(any(CapacityTechnology.class))).thenReturn(Mono.just(javaTech));
+        when(capacityEventGateway.publish(any())).thenReturn(Mono.error(new RuntimeException("Notify failed")));
+
+        // When & Then
+        StepVerifier.create(createCapacityUseCase.execute(command))
+            .assertNext(response -> assertEquals(1L, response.getCapacityId()))
+            .verifyComplete();
+
+        verify(capacityEventGateway).publish(argThat(event ->
+            event.getType() == CapacityEventType.CAPACITY_CREATED && event.getCapacityId().equals(1L)));
+    }
 }
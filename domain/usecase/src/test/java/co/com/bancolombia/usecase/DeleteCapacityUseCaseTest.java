@@ -1,6 +1,10 @@
 package co.com.bancolombia.usecase;
 
-import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacitySummary;
+import co.com.bancolombia.model.capacity.CapacityEvent;
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.model.capacity.values.Id;
@@ -11,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
@@ -19,6 +24,8 @@ import reactor.test.StepVerifier;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,11 +40,16 @@ class DeleteCapacityUseCaseTest {
   @Mock
   private TechnologyGateway technologyGateway;
 
+  @Mock
+  private CapacityEventGateway capacityEventGateway;
+
   private DeleteCapacityUseCase deleteCapacityUseCase;
 
   @BeforeEach
   void setUp() {
-    deleteCapacityUseCase = new DeleteCapacityUseCase(gateway, technologyGateway);
+    deleteCapacityUseCase = new DeleteCapacityUseCase(gateway, technologyGateway, capacityEventGateway,
+      new TechnologyConcurrency(20, 4));
+    lenient().when(capacityEventGateway.publish(any())).thenReturn(Mono.empty());
   }
 
   @Test
@@ -45,9 +57,9 @@ class DeleteCapacityUseCaseTest {
   void shouldDeleteAllCapacitiesWhenBootcampIdIsProvidedAndCapacitiesExist() {
     // Arrange
     Long bootcampId = 1L;
-    Capacity capacity1 = new Capacity(1L, "Capacity 1", "Description 1");
-    Capacity capacity2 = new Capacity(2L, "Capacity 2", "Description 2");
-    List<Capacity> capacities = Arrays.asList(capacity1, capacity2);
+    CapacitySummary capacity1 = new CapacitySummary(1L, "Capacity 1", "Description 1");
+    CapacitySummary capacity2 = new CapacitySummary(2L, "Capacity 2", "Description 2");
+    List<CapacitySummary> capacities = Arrays.asList(capacity1, capacity2);
 
     when(gateway.findByBootcamp(bootcampId)).thenReturn(Flux.fromIterable(capacities));
     when(gateway.countBootcampsByCapacityId(1L)).thenReturn(Mono.just(1L));
@@ -76,9 +88,9 @@ class DeleteCapacityUseCaseTest {
   void shouldDeleteOnlyRelationWhenCapacityIsAssociatedToMultipleBootcamps() {
     // Arrange
     Long bootcampId = 1L;
-    Capacity capacity1 = new Capacity(1L, "Capacity 1", "Description 1");
-    Capacity capacity2 = new Capacity(2L, "Capacity 2", "Description 2");
-    List<Capacity> capacities = Arrays.asList(capacity1, capacity2);
+    CapacitySummary capacity1 = new CapacitySummary(1L, "Capacity 1", "Description 1");
+    CapacitySummary capacity2 = new CapacitySummary(2L, "Capacity 2", "Description 2");
+    List<CapacitySummary> capacities = Arrays.asList(capacity1, capacity2);
 
     when(gateway.findByBootcamp(bootcampId)).thenReturn(Flux.fromIterable(capacities));
     when(gateway.countBootcampsByCapacityId(1L)).thenReturn(Mono.just(2L));
@@ -100,6 +112,13 @@ class DeleteCapacityUseCaseTest {
     verify(gateway).delete(2L);
     verify(gateway, never()).delete(1L);
     verify(technologyGateway, never()).deleteTechnologiesByCapacity(1L);
+
+    ArgumentCaptor<CapacityEvent> events = ArgumentCaptor.forClass(CapacityEvent.class);
+    verify(capacityEventGateway, times(2)).publish(events.capture());
+    assertEquals(
+      Map.of(1L, CapacityEventType.ASSOCIATION_REMOVED, 2L, CapacityEventType.CAPACITY_DELETED),
+      events.getAllValues().stream().collect(Collectors.toMap(CapacityEvent::getCapacityId, CapacityEvent::getType)));
+    assertTrue(events.getAllValues().stream().allMatch(event -> bootcampId.equals(event.getBootcampId())));
   }
 
   @Test
@@ -134,10 +153,10 @@ class DeleteCapacityUseCaseTest {
   void shouldHandleMixedScenarios() {
     // Arrange
     Long bootcampId = 1L;
-    Capacity capacity1 = new Capacity(1L, "Capacity 1", "Description 1");
-    Capacity capacity2 = new Capacity(2L, "Capacity 2", "Description 2");
-    Capacity capacity3 = new Capacity(3L, "Capacity 3", "Description 3");
-    List<Capacity> capacities = Arrays.asList(capacity1, capacity2, capacity3);
+    CapacitySummary capacity1 = new CapacitySummary(1L, "Capacity 1", "Description 1");
+    CapacitySummary capacity2 = new CapacitySummary(2L, "Capacity 2", "Description 2");
+    CapacitySummary capacity3 = new CapacitySummary(3L, "Capacity 3", "Description 3");
+    List<CapacitySummary> capacities = Arrays.asList(capacity1, capacity2, capacity3);
 
     when(gateway.findByBootcamp(bootcampId)).thenReturn(Flux.fromIterable(capacities));
     when(gateway.countBootcampsByCapacityId(1L)).thenReturn(Mono.just(1L));
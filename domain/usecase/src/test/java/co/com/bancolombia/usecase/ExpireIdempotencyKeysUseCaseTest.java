@@ -0,0 +1,45 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.idempotency.gateway.IdempotencyGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpireIdempotencyKeysUseCase Tests")
+class ExpireIdempotencyKeysUseCaseTest {
+
+    @Mock
+    private IdempotencyGateway idempotencyGateway;
+
+    @Test
+    @DisplayName("Should delete completed keys past retention and claims past the claim timeout")
+    void shouldDeleteExpiredKeysAndStaleClaims() {
+        // Given
+        ArgumentCaptor<Instant> completedBefore = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> claimedBefore = ArgumentCaptor.forClass(Instant.class);
+        when(idempotencyGateway.deleteExpired(completedBefore.capture(), claimedBefore.capture())).thenReturn(Mono.just(3L));
+        Instant start = Instant.now();
+
+        // When & Then
+        StepVerifier.create(new ExpireIdempotencyKeysUseCase(idempotencyGateway)
+                .execute(Duration.ofHours(24), Duration.ofMinutes(5)))
+            .expectNext(3L)
+            .verifyComplete();
+
+        assertEquals(Duration.ofHours(24).minus(Duration.ofMinutes(5)),
+            Duration.between(completedBefore.getValue(), claimedBefore.getValue()));
+        assertFalse(claimedBefore.getValue().isBefore(start.minus(Duration.ofMinutes(5))));
+    }
+}
@@ -1,6 +1,6 @@
 package co.com.bancolombia.usecase;
 
-import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacitySummary;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,9 +32,9 @@ class GetAllCapacityIdsUseCaseTest {
   @DisplayName("Should return all capacity IDs from gateway")
   void shouldReturnAllCapacityIds() {
     // Given
-    Capacity cap1 = new Capacity(1L, "A", "Desc");
-    Capacity cap2 = new Capacity(2L, "B", "Desc");
-    Capacity cap3 = new Capacity(3L, "C", "Desc");
+    CapacitySummary cap1 = new CapacitySummary(1L, "A", "Desc");
+    CapacitySummary cap2 = new CapacitySummary(2L, "B", "Desc");
+    CapacitySummary cap3 = new CapacitySummary(3L, "C", "Desc");
     when(capacityGateway.findAll()).thenReturn(Flux.just(cap1, cap2, cap3));
 
     // When
@@ -0,0 +1,104 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.CapacitySummary;
+import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetCapacitiesByIdsUseCase Tests")
+class GetCapacitiesByIdsUseCaseTest {
+
+    @Mock
+    private CapacityGateway capacityGateway;
+
+    @Mock
+    private TechnologyGateway technologyGateway;
+
+    private GetCapacitiesByIdsUseCase getCapacitiesByIdsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getCapacitiesByIdsUseCase = new GetCapacitiesByIdsUseCase(capacityGateway, technologyGateway);
+    }
+
+    @Test
+    @DisplayName("Should keep input order, report missing ids and fetch technologies in one call")
+    void shouldKeepInputOrderAndReportMissingIds() {
+        // Given
+        when(capacityGateway.findByIds(List.of(3L, 9L, 1L))).thenReturn(Flux.just(
+            new CapacitySummary(1L, "Frontend", "Frontend capacity"),
+            new CapacitySummary(3L, "Backend", "Backend capacity")));
+        when(technologyGateway.findByCapacityIds(List.of(3L, 1L))).thenReturn(Mono.just(Map.of(
+            3L, List.of(new Technology(10L, "Java", "Java")),
+            1L, List.of(new Technology(12L, "React", "React")))));
+
+        // When & Then
+        StepVerifier.create(getCapacitiesByIdsUseCase.execute(List.of(3L, 9L, 1L, 3L)))
+            .assertNext(response -> {
+                assertEquals(List.of(3L, 1L), response.getCapacities().stream().map(CapacityResponse::getCapacityId).toList());
+                assertEquals("Java", response.getCapacities().get(0).getTechnologies().get(0).getName());
+                assertEquals(List.of(9L), response.getMissingIds());
+            })
+            .verifyComplete();
+
+        verify(technologyGateway, times(1)).findByCapacityIds(anyList());
+        verify(technologyGateway, never()).findByCapacityId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should not call the technology service when no capacity exists")
+    void shouldNotCallTechnologyServiceWhenNothingFound() {
+        // Given
+        when(capacityGateway.findByIds(List.of(5L, 6L))).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(getCapacitiesByIdsUseCase.execute(List.of(5L, 6L)))
+            .assertNext(response -> {
+                assertTrue(response.getCapacities().isEmpty());
+                assertEquals(List.of(5L, 6L), response.getMissingIds());
+            })
+            .verifyComplete();
+
+        verifyNoInteractions(technologyGateway);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or oversized id list")
+    void shouldRejectEmptyOrOversizedIdList() {
+        // Given
+        List<Long> oversized = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // When & Then
+        StepVerifier.create(getCapacitiesByIdsUseCase.execute(Arrays.asList((Long) null)))
+            .expectErrorMatches(error -> error instanceof BussinessException
+                && error.getMessage().equals("The ids should have between 1 and 100 elements."))
+            .verify();
+
+        StepVerifier.create(getCapacitiesByIdsUseCase.execute(oversized))
+            .expectError(BussinessException.class)
+            .verify();
+
+        verifyNoInteractions(capacityGateway, technologyGateway);
+    }
+}
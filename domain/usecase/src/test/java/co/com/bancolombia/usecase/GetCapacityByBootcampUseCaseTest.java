@@ -1,7 +1,8 @@
 package co.com.bancolombia.usecase;
 
-import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacitySummary;
 import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
 import co.com.bancolombia.model.capacity.values.Id;
@@ -40,7 +41,8 @@ class GetCapacityByBootcampUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        getCapacityByBootcampUseCase = new GetCapacityByBootcampUseCase(capacityGateway, technologyGateway);
+        getCapacityByBootcampUseCase = new GetCapacityByBootcampUseCase(capacityGateway, technologyGateway,
+            new TechnologyConcurrency(20, 4));
     }
 
     @Test
@@ -54,8 +56,8 @@ class GetCapacityByBootcampUseCaseTest {
         Long techId2 = 2L;
         Long techId3 = 3L;
 
-        Capacity capacity1 = new Capacity(capacityId1, "Backend Development", "Backend development capacity");
-        Capacity capacity2 = new Capacity(capacityId2, "Frontend Development", "Frontend development capacity");
+        CapacitySummary capacity1 = new CapacitySummary(capacityId1, "Backend Development", "Backend development capacity");
+        CapacitySummary capacity2 = new CapacitySummary(capacityId2, "Frontend Development", "Frontend development capacity");
 
         Technology technology1 = new Technology(techId1, "Java", "Java programming language");
         Technology technology2 = new Technology(techId2, "Spring", "Spring Framework");
@@ -104,7 +106,7 @@ class GetCapacityByBootcampUseCaseTest {
         Long bootcampId = 1L;
         Long capacityId = 1L;
 
-        Capacity capacity = new Capacity(capacityId, "Backend Development", "Backend development capacity");
+        CapacitySummary capacity = new CapacitySummary(capacityId, "Backend Development", "Backend development capacity");
 
         when(capacityGateway.findByBootcamp(bootcampId))
             .thenReturn(Flux.just(capacity));
@@ -156,7 +158,7 @@ class GetCapacityByBootcampUseCaseTest {
         Long bootcampId = 1L;
         Long capacityId = 1L;
 
-        Capacity capacity = new Capacity(capacityId, "Full Stack Development", "Full stack development capacity");
+        CapacitySummary capacity = new CapacitySummary(capacityId, "Full Stack Development", "Full stack development capacity");
 
         Technology technology1 = new Technology(1L, "Java", "Java programming language");
         Technology technology2 = new Technology(2L, "Spring", "Spring Framework");
@@ -203,9 +205,9 @@ class GetCapacityByBootcampUseCaseTest {
         Long capacityId2 = 2L;
         Long capacityId3 = 3L;
 
-        Capacity capacity1 = new Capacity(capacityId1, "Backend Development", "Backend development capacity");
-        Capacity capacity2 = new Capacity(capacityId2, "Frontend Development", "Frontend development capacity");
-        Capacity capacity3 = new Capacity(capacityId3, "DevOps", "DevOps capacity");
+        CapacitySummary capacity1 = new CapacitySummary(capacityId1, "Backend Development", "Backend development capacity");
+        CapacitySummary capacity2 = new CapacitySummary(capacityId2, "Frontend Development", "Frontend development capacity");
+        CapacitySummary capacity3 = new CapacitySummary(capacityId3, "DevOps", "DevOps capacity");
 
         Technology technology1 = new Technology(1L, "Java", "Java programming language");
         Technology technology2 = new Technology(2L, "Spring", "Spring Framework");
@@ -258,7 +260,7 @@ class GetCapacityByBootcampUseCaseTest {
         Long capacityId = 1L;
         Long techId = 1L;
 
-        Capacity capacity = new Capacity(capacityId, "Backend Development", "Backend development capacity");
+        CapacitySummary capacity = new CapacitySummary(capacityId, "Backend Development", "Backend development capacity");
         Technology technology = new Technology(techId, "Java", "Java programming language");
 
         when(capacityGateway.findByBootcamp(bootcampId))
@@ -288,7 +290,7 @@ class GetCapacityByBootcampUseCaseTest {
         Long bootcampId = 1L;
         Long capacityId = 1L;
 
-        Capacity capacity = new Capacity(capacityId, "Backend Development", "Backend development capacity");
+        CapacitySummary capacity = new CapacitySummary(capacityId, "Backend Development", "Backend development capacity");
 
         when(capacityGateway.findByBootcamp(bootcampId))
             .thenReturn(Flux.just(capacity));
@@ -369,4 +371,46 @@ class GetCapacityByBootcampUseCaseTest {
         verify(capacityGateway).findByBootcamp(bootcampId);
         verify(technologyGateway, never()).findByCapacityId(anyLong());
     }
+
+    @Test
+    @DisplayName("Should mark capacity as degraded when technologies come from the fallback cache")
+    void shouldMarkCapacityAsDegradedWhenTechnologiesComeFromFallbackCache() {
+        // Given
+        Long bootcampId = 1L;
+        CapacitySummary capacity = new CapacitySummary(1L, "Backend Development", "Backend development capacity");
+        Technology cached = new Technology(1L, "Java", "Java programming language");
+        cached.setDegraded(true);
+
+        when(capacityGateway.findByBootcamp(bootcampId)).thenReturn(Flux.just(capacity));
+        when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(cached));
+
+        // When & Then
+        StepVerifier.create(getCapacityByBootcampUseCase.execute(bootcampId))
+            .assertNext(response -> {
+                assertTrue(response.isDegraded());
+                assertEquals("Java", response.getTechnologies().get(0).getName());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not call the technology service when technologies are not requested")
+    void shouldNotCallTechnologyServiceWhenTechnologiesAreNotRequested() {
+        // Given
+        Long bootcampId = 1L;
+        when(capacityGateway.findByBootcamp(bootcampId)).thenReturn(Flux.just(
+            new CapacitySummary(1L, "Backend Development", "Backend development capacity"),
+            new CapacitySummary(2L, "Frontend Development", "Frontend development capacity")));
+
+        // When & Then
+        StepVerifier.create(getCapacityByBootcampUseCase.execute(bootcampId, false))
+            .assertNext(response -> {
+                assertEquals(1L, response.getCapacityId());
+                assertNull(response.getTechnologies());
+            })
+            .assertNext(response -> assertEquals("Frontend Development", response.getName()))
+            .verifyComplete();
+
+        verifyNoInteractions(technologyGateway);
+    }
 }
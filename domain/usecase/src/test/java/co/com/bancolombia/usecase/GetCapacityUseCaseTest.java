@@ -1,6 +1,7 @@
 package co.com.bancolombia.usecase;
 
-import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacitySummary;
+import co.com.bancolombia.model.capacity.CapacityPage;
 import co.com.bancolombia.model.capacity.Technology;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
@@ -25,6 +26,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,11 +50,11 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should pass through DESC order and preserve capacity order")
     void shouldPassThroughDescOrderAndPreserveCapacityOrder() {
         // Given
-        Capacity a = new Capacity(1L, "A Capacity", "Desc A");
-        Capacity b = new Capacity(2L, "B Capacity", "Desc B");
-        Capacity c = new Capacity(3L, "C Capacity", "Desc C");
+        CapacitySummary a = new CapacitySummary(1L, "A Capacity", "Desc A");
+        CapacitySummary b = new CapacitySummary(2L, "B Capacity", "Desc B");
+        CapacitySummary c = new CapacitySummary(3L, "C Capacity", "Desc C");
 
-        when(capacityGateway.findAllPagedSorted(0, 5, "name", "desc")).thenReturn(Flux.just(a, b, c));
+        when(capacityGateway.findAllPagedSorted(0, 5, "name", "desc")).thenReturn(Mono.just(new CapacityPage(List.of(a, b, c), 3L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.empty());
         when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.empty());
         when(technologyGateway.findByCapacityId(3L)).thenReturn(Flux.empty());
@@ -78,9 +80,9 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should sort by technologies count ASC and paginate")
     void shouldSortByTechnologiesAscAndPaginate() {
         // Given
-        Capacity c1 = new Capacity(1L, "A", "A desc");
-        Capacity c2 = new Capacity(2L, "B", "B desc");
-        Capacity c3 = new Capacity(3L, "C", "C desc");
+        CapacitySummary c1 = new CapacitySummary(1L, "A", "A desc");
+        CapacitySummary c2 = new CapacitySummary(2L, "B", "B desc");
+        CapacitySummary c3 = new CapacitySummary(3L, "C", "C desc");
 
         when(capacityGateway.findAll()).thenReturn(Flux.just(c1, c2, c3));
 
@@ -104,6 +106,8 @@ class GetCapacityUseCaseTest {
                 assertThat(response.getCapacities()).hasSize(2);
                 assertThat(response.getCapacities().get(0).getCapacityId()).isEqualTo(3L);
                 assertThat(response.getCapacities().get(1).getCapacityId()).isEqualTo(1L);
+                assertThat(response.getTotalElements()).isEqualTo(3L);
+                assertThat(response.getTotalPages()).isEqualTo(2);
             })
             .verifyComplete();
     }
@@ -112,9 +116,9 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should sort by technologies count DESC and paginate")
     void shouldSortByTechnologiesDescAndPaginate() {
         // Given
-        Capacity c1 = new Capacity(1L, "A", "A desc");
-        Capacity c2 = new Capacity(2L, "B", "B desc");
-        Capacity c3 = new Capacity(3L, "C", "C desc");
+        CapacitySummary c1 = new CapacitySummary(1L, "A", "A desc");
+        CapacitySummary c2 = new CapacitySummary(2L, "B", "B desc");
+        CapacitySummary c3 = new CapacitySummary(3L, "C", "C desc");
 
         when(capacityGateway.findAll()).thenReturn(Flux.just(c1, c2, c3));
 
@@ -146,15 +150,15 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should return all capacities with their technologies successfully")
     void shouldReturnAllCapacitiesWithTheirTechnologiesSuccessfully() {
         // Given
-        Capacity capacity1 = new Capacity(1L, "Payments Squad", "Handles payment features");
-        Capacity capacity2 = new Capacity(2L, "User Management", "Handles user operations");
+        CapacitySummary capacity1 = new CapacitySummary(1L, "Payments Squad", "Handles payment features");
+        CapacitySummary capacity2 = new CapacitySummary(2L, "User Management", "Handles user operations");
 
         Technology tech1 = new Technology(1L, "Java", "Java Programming Language");
         Technology tech2 = new Technology(2L, "Spring Boot", "Spring Boot Framework");
         Technology tech3 = new Technology(3L, "PostgreSQL", "PostgreSQL Database");
         Technology tech4 = new Technology(4L, "React", "React Framework");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity1, capacity2));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity1, capacity2), 2L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(tech1, tech2));
         when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.just(tech3, tech4));
 
@@ -169,6 +173,8 @@ class GetCapacityUseCaseTest {
                     assertThat(response.getFilter().getSize()).isEqualTo(10);
                     assertThat(response.getFilter().getSortBy()).isEqualTo("name");
                     assertThat(response.getFilter().getOrder()).isEqualTo("asc");
+                    assertThat(response.getTotalElements()).isEqualTo(2L);
+                    assertThat(response.getTotalPages()).isEqualTo(1);
                     
                     CapacityResponse capacityResponse1 = response.getCapacities().get(0);
                     assertThat(capacityResponse1.getCapacityId()).isEqualTo(1L);
@@ -201,7 +207,7 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should return empty list when no capacities exist")
     void shouldReturnEmptyListWhenNoCapacitiesExist() {
         // Given
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.empty());
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(), 0L)));
 
         // When
         Mono<GetCapacitiesResponse> result = getCapacityUseCase.execute(0, 10, "name", "asc");
@@ -222,9 +228,9 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should return capacity with empty technologies when no technologies exist")
     void shouldReturnCapacityWithEmptyTechnologiesWhenNoTechnologiesExist() {
         // Given
-        Capacity capacity = new Capacity(1L, "Empty Tech Capacity", "Capacity without technologies");
+        CapacitySummary capacity = new CapacitySummary(1L, "Empty Tech Capacity", "Capacity without technologies");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity), 1L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.empty());
 
         // When
@@ -252,10 +258,10 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should return capacity with single technology")
     void shouldReturnCapacityWithSingleTechnology() {
         // Given
-        Capacity capacity = new Capacity(1L, "Single Tech Capacity", "Capacity with one technology");
+        CapacitySummary capacity = new CapacitySummary(1L, "Single Tech Capacity", "Capacity with one technology");
         Technology technology = new Technology(1L, "Java", "Java Programming Language");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity), 1L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(technology));
 
         // When
@@ -286,13 +292,13 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should return capacity with multiple technologies")
     void shouldReturnCapacityWithMultipleTechnologies() {
         // Given
-        Capacity capacity = new Capacity(1L, "Multi Tech Capacity", "Capacity with multiple technologies");
+        CapacitySummary capacity = new CapacitySummary(1L, "Multi Tech Capacity", "Capacity with multiple technologies");
         Technology tech1 = new Technology(1L, "Java", "Java Programming Language");
         Technology tech2 = new Technology(2L, "Spring Boot", "Spring Boot Framework");
         Technology tech3 = new Technology(3L, "PostgreSQL", "PostgreSQL Database");
         Technology tech4 = new Technology(4L, "Docker", "Docker Containerization");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity), 1L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(tech1, tech2, tech3, tech4));
 
         // When
@@ -326,10 +332,10 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should handle capacity with special characters in name and description")
     void shouldHandleCapacityWithSpecialCharactersInNameAndDescription() {
         // Given
-        Capacity capacity = new Capacity(1L, "Special Chars: @#$%^&*()", "Description with áéíóú ñ");
+        CapacitySummary capacity = new CapacitySummary(1L, "Special Chars: @#$%^&*()", "Description with áéíóú ñ");
         Technology technology = new Technology(1L, "Java 21", "Java 21 Programming Language");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity), 1L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(technology));
 
         // When
@@ -358,10 +364,10 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should handle technology with special characters in name and description")
     void shouldHandleTechnologyWithSpecialCharactersInNameAndDescription() {
         // Given
-        Capacity capacity = new Capacity(1L, "Tech Special Chars", "Testing special characters in technologies");
+        CapacitySummary capacity = new CapacitySummary(1L, "Tech Special Chars", "Testing special characters in technologies");
         Technology technology = new Technology(1L, "Spring-Boot 3.0", "Spring Boot 3.0 Framework with @Value annotations");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity), 1L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(technology));
 
         // When
@@ -391,15 +397,15 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should handle multiple capacities with different technology counts")
     void shouldHandleMultipleCapacitiesWithDifferentTechnologyCounts() {
         // Given
-        Capacity capacity1 = new Capacity(1L, "No Tech Capacity", "Capacity without technologies");
-        Capacity capacity2 = new Capacity(2L, "Single Tech Capacity", "Capacity with one technology");
-        Capacity capacity3 = new Capacity(3L, "Multi Tech Capacity", "Capacity with multiple technologies");
+        CapacitySummary capacity1 = new CapacitySummary(1L, "No Tech Capacity", "Capacity without technologies");
+        CapacitySummary capacity2 = new CapacitySummary(2L, "Single Tech Capacity", "Capacity with one technology");
+        CapacitySummary capacity3 = new CapacitySummary(3L, "Multi Tech Capacity", "Capacity with multiple technologies");
 
         Technology tech1 = new Technology(1L, "Java", "Java Programming Language");
         Technology tech2 = new Technology(2L, "Spring Boot", "Spring Boot Framework");
         Technology tech3 = new Technology(3L, "PostgreSQL", "PostgreSQL Database");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity1, capacity2, capacity3));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity1, capacity2, capacity3), 3L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.empty());
         when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.just(tech1));
         when(technologyGateway.findByCapacityId(3L)).thenReturn(Flux.just(tech2, tech3));
@@ -445,7 +451,7 @@ class GetCapacityUseCaseTest {
     void shouldHandleErrorWhenCapacityGatewayFails() {
         // Given
         RuntimeException error = new RuntimeException("Database connection failed");
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.error(error));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.error(error));
 
         // When
         Mono<GetCapacitiesResponse> result = getCapacityUseCase.execute(0, 10, "name", "asc");
@@ -460,10 +466,10 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should handle error when technology gateway fails")
     void shouldHandleErrorWhenTechnologyGatewayFails() {
         // Given
-        Capacity capacity = new Capacity(1L, "Test Capacity", "Test Description");
+        CapacitySummary capacity = new CapacitySummary(1L, "Test Capacity", "Test Description");
         RuntimeException error = new RuntimeException("External service error");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity), 1L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.error(error));
 
         // When
@@ -479,13 +485,13 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should handle large number of technologies per capacity efficiently")
     void shouldHandleLargeNumberOfTechnologiesPerCapacityEfficiently() {
         // Given
-        Capacity capacity = new Capacity(1L, "Large Tech Capacity", "Capacity with many technologies");
+        CapacitySummary capacity = new CapacitySummary(1L, "Large Tech Capacity", "Capacity with many technologies");
         int techCount = 50;
         List<Technology> technologies = java.util.stream.IntStream.rangeClosed(1, techCount)
                 .mapToObj(i -> new Technology((long) i, "Technology " + i, "Description " + i))
                 .toList();
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity), 1L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.fromIterable(technologies));
 
         // When
@@ -512,12 +518,12 @@ class GetCapacityUseCaseTest {
     @DisplayName("Should preserve order of capacities and technologies")
     void shouldPreserveOrderOfCapacitiesAndTechnologies() {
         // Given
-        Capacity capacity1 = new Capacity(1L, "First Capacity", "First Description");
-        Capacity capacity2 = new Capacity(2L, "Second Capacity", "Second Description");
+        CapacitySummary capacity1 = new CapacitySummary(1L, "First Capacity", "First Description");
+        CapacitySummary capacity2 = new CapacitySummary(2L, "Second Capacity", "Second Description");
         Technology tech1 = new Technology(1L, "First Tech", "First Tech Description");
         Technology tech2 = new Technology(2L, "Second Tech", "Second Tech Description");
 
-        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Flux.just(capacity1, capacity2));
+        when(capacityGateway.findAllPagedSorted(0, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(capacity1, capacity2), 2L)));
         when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(tech1, tech2));
         when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.just(tech2, tech1));
 
@@ -549,4 +555,62 @@ class GetCapacityUseCaseTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("Should report totals from the page query even when the page is past the end")
+    void shouldReportTotalsWhenPageIsPastTheEnd() {
+        // Given
+        when(capacityGateway.findAllPagedSorted(5, 10, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(), 42L)));
+
+        // When
+        Mono<GetCapacitiesResponse> result = getCapacityUseCase.execute(5, 10, "name", "asc");
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.getCapacities()).isEmpty();
+                    assertThat(response.getTotalElements()).isEqualTo(42L);
+                    assertThat(response.getTotalPages()).isEqualTo(5);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should page without calling the technology service when technologies are not requested")
+    void shouldPageWithoutCallingTechnologyServiceWhenTechnologiesAreNotRequested() {
+        // Given
+        CapacitySummary a = new CapacitySummary(1L, "A Capacity", "Desc A");
+        CapacitySummary b = new CapacitySummary(2L, "B Capacity", "Desc B");
+        when(capacityGateway.findAllPagedSorted(0, 2, "name", "asc")).thenReturn(Mono.just(new CapacityPage(List.of(a, b), 5L)));
+
+        // When & Then
+        StepVerifier.create(getCapacityUseCase.execute(0, 2, "name", "asc", false))
+            .assertNext(response -> {
+                assertThat(response.getCapacities()).extracting(CapacityResponse::getCapacityId).containsExactly(1L, 2L);
+                assertThat(response.getCapacities()).allMatch(capacity -> capacity.getTechnologies() == null);
+                assertThat(response.getTotalPages()).isEqualTo(3);
+            })
+            .verifyComplete();
+
+        verifyNoInteractions(technologyGateway);
+    }
+
+    @Test
+    @DisplayName("Should still fetch technologies to sort by them but leave them out of the response")
+    void shouldFetchTechnologiesToSortButLeaveThemOut() {
+        // Given
+        CapacitySummary a = new CapacitySummary(1L, "A Capacity", "Desc A");
+        CapacitySummary b = new CapacitySummary(2L, "B Capacity", "Desc B");
+        when(capacityGateway.findAll()).thenReturn(Flux.just(a, b));
+        when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(new Technology(10L, "Java", "Java")));
+        when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(getCapacityUseCase.execute(0, 10, "technologies", "asc", false))
+            .assertNext(response -> {
+                assertThat(response.getCapacities()).extracting(CapacityResponse::getCapacityId).containsExactly(2L, 1L);
+                assertThat(response.getCapacities()).allMatch(capacity -> capacity.getTechnologies() == null);
+            })
+            .verifyComplete();
+    }
 }
@@ -0,0 +1,116 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.IdempotentResponse;
+import co.com.bancolombia.model.idempotency.gateway.IdempotencyGateway;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentRequestUseCase Tests")
+class IdempotentRequestUseCaseTest {
+
+    private static final String KEY = "retry-1";
+    private static final String FINGERPRINT = "a".repeat(64);
+
+    @Mock
+    private IdempotencyGateway idempotencyGateway;
+
+    private IdempotentRequestUseCase idempotentRequestUseCase;
+
+    @BeforeEach
+    void setUp() {
+        idempotentRequestUseCase = new IdempotentRequestUseCase(idempotencyGateway);
+    }
+
+    @Test
+    @DisplayName("Should run the action once and store its response when the key is claimed")
+    void shouldRunActionAndStoreResponseWhenClaimed() {
+        // Given
+        IdempotentResponse response = response(200);
+        when(idempotencyGateway.claim(KEY, FINGERPRINT)).thenReturn(Mono.just(true));
+        when(idempotencyGateway.complete(KEY, response)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(idempotentRequestUseCase.execute(KEY, FINGERPRINT, Mono.just(response)))
+            .expectNext(response)
+            .verifyComplete();
+
+        verify(idempotencyGateway, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("Should release the claim instead of storing a server error")
+    void shouldReleaseClaimOnServerError() {
+        // Given
+        IdempotentResponse response = response(500);
+        when(idempotencyGateway.claim(KEY, FINGERPRINT)).thenReturn(Mono.just(true));
+        when(idempotencyGateway.release(KEY)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(idempotentRequestUseCase.execute(KEY, FINGERPRINT, Mono.just(response)))
+            .expectNext(response)
+            .verifyComplete();
+
+        verify(idempotencyGateway, never()).complete(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without running the action again")
+    void shouldReplayStoredResponseWithoutRunningAction() {
+        // Given
+        IdempotentResponse stored = response(200);
+        AtomicInteger executions = new AtomicInteger();
+        when(idempotencyGateway.claim(KEY, FINGERPRINT)).thenReturn(Mono.just(false));
+        when(idempotencyGateway.find(KEY)).thenReturn(Mono.just(new IdempotencyRecord(KEY, FINGERPRINT, stored)));
+
+        // When & Then
+        StepVerifier.create(idempotentRequestUseCase.execute(KEY, FINGERPRINT,
+                Mono.fromSupplier(() -> {
+                    executions.incrementAndGet();
+                    return response(200);
+                })))
+            .expectNext(stored)
+            .verifyComplete();
+
+        verifyNoMoreInteractions(idempotencyGateway);
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request or still in progress")
+    void shouldRejectReusedOrInProgressKeys() {
+        // Given
+        when(idempotencyGateway.claim(anyString(), anyString())).thenReturn(Mono.just(false));
+        when(idempotencyGateway.find(KEY)).thenReturn(Mono.just(new IdempotencyRecord(KEY, FINGERPRINT, null)));
+
+        // When & Then
+        StepVerifier.create(idempotentRequestUseCase.execute(KEY, "b".repeat(64), Mono.just(response(200))))
+            .expectErrorMatches(error -> error instanceof BussinessException
+                && error.getMessage().equals(IdempotentRequestUseCase.KEY_REUSED_MESSAGE))
+            .verify();
+
+        StepVerifier.create(idempotentRequestUseCase.execute(KEY, FINGERPRINT, Mono.just(response(200))))
+            .expectErrorMatches(error -> error instanceof BussinessException
+                && error.getMessage().equals(IdempotentRequestUseCase.REQUEST_IN_PROGRESS_MESSAGE))
+            .verify();
+    }
+
+    private static IdempotentResponse response(int statusCode) {
+        return new IdempotentResponse(statusCode, "application/json", "{\"capacityId\":1}".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.gateway.TechnologyDeletionQueueGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetryPendingTechnologyDeletionsUseCaseTest {
+
+  @Mock
+  private TechnologyDeletionQueueGateway deletionQueueGateway;
+
+  @Mock
+  private TechnologyGateway technologyGateway;
+
+  private RetryPendingTechnologyDeletionsUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    useCase = new RetryPendingTechnologyDeletionsUseCase(deletionQueueGateway, technologyGateway);
+  }
+
+  @Test
+  @DisplayName("Should remove only the deletions the technology service confirmed")
+  void shouldRemoveOnlyConfirmedDeletions() {
+    // Arrange
+    when(deletionQueueGateway.findPending(10)).thenReturn(Flux.just(1L, 2L, 3L));
+    when(technologyGateway.deleteTechnologiesByCapacity(1L)).thenReturn(Mono.just(List.of(10L, 11L)));
+    when(technologyGateway.deleteTechnologiesByCapacity(2L)).thenReturn(Mono.empty());
+    when(technologyGateway.deleteTechnologiesByCapacity(3L)).thenReturn(Mono.error(new RuntimeException("Timeout")));
+    when(deletionQueueGateway.remove(1L)).thenReturn(Mono.empty());
+
+    // Act & Assert
+    StepVerifier.create(useCase.execute(10))
+      .expectNext(1L)
+      .verifyComplete();
+
+    verify(deletionQueueGateway).remove(1L);
+    verify(deletionQueueGateway, never()).remove(2L);
+    verify(deletionQueueGateway, never()).remove(3L);
+  }
+
+  @Test
+  @DisplayName("Should do nothing when the queue is empty")
+  void shouldDoNothingWhenQueueIsEmpty() {
+    // Arrange
+    when(deletionQueueGateway.findPending(10)).thenReturn(Flux.empty());
+
+    // Act & Assert
+    StepVerifier.create(useCase.execute(10))
+      .expectNext(0L)
+      .verifyComplete();
+
+    verifyNoInteractions(technologyGateway);
+  }
+}
@@ -0,0 +1,180 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.ScoredCapacity;
+import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
+import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.SearchCapacitiesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchCapacitiesUseCase Tests")
+class SearchCapacitiesUseCaseTest {
+
+    @Mock
+    private CapacityGateway capacityGateway;
+
+    @Mock
+    private TechnologyGateway technologyGateway;
+
+    private SearchCapacitiesUseCase searchCapacitiesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        searchCapacitiesUseCase = new SearchCapacitiesUseCase(capacityGateway, technologyGateway,
+            new TechnologyConcurrency(20, 4));
+    }
+
+    @Test
+    @DisplayName("Should return ranked capacities and a cursor that resumes after the last hit")
+    void shouldReturnRankedCapacitiesAndResumableCursor() {
+        // Given
+        ScoredCapacity first = new ScoredCapacity(new Capacity(1L, "Payments Squad", "Handles payments"), 0.9f);
+        ScoredCapacity second = new ScoredCapacity(new Capacity(2L, "Payroll", "Handles payroll"), 0.5f);
+        when(capacityGateway.search("pay", null, null, 2)).thenReturn(Flux.just(first, second));
+        when(capacityGateway.search("pay", 0.5f, 2L, 2)).thenReturn(Flux.empty());
+        when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(new Technology(10L, "Java", "Java 21")));
+        when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.empty());
+
+        // When
+        SearchCapacitiesResponse page = searchCapacitiesUseCase.execute(" pay ", null, null, 2).block();
+
+        // Then
+        assertThat(page).isNotNull();
+        assertThat(page.getCapacities()).extracting("capacityId").containsExactly(1L, 2L);
+        assertThat(page.getCapacities().get(0).getTechnologies()).hasSize(1);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        StepVerifier.create(searchCapacitiesUseCase.execute("pay", null, page.getNextCursor(), 2))
+            .assertNext(next -> {
+                assertThat(next.getCapacities()).isEmpty();
+                assertThat(next.getNextCursor()).isNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep only capacities with the requested technology")
+    void shouldFilterByTechnology() {
+        // Given
+        ScoredCapacity first = new ScoredCapacity(new Capacity(1L, "Payments Squad", "Handles payments"), 0.9f);
+        ScoredCapacity second = new ScoredCapacity(new Capacity(2L, "Payroll", "Handles payroll"), 0.5f);
+        when(capacityGateway.search("pay", null, null, 10)).thenReturn(Flux.just(first, second));
+        when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(new Technology(10L, "Java", "Java 21")));
+        when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.just(new Technology(11L, "Go", "Go lang")));
+
+        // When & Then
+        StepVerifier.create(searchCapacitiesUseCase.execute("pay", "java", null, 10))
+            .assertNext(response -> {
+                assertThat(response.getCapacities()).extracting("capacityId").containsExactly(1L);
+                assertThat(response.getNextCursor()).isNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should look up technologies concurrently and keep the ranking order")
+    void shouldLookUpTechnologiesConcurrentlyInRankingOrder() {
+        // Given
+        ScoredCapacity first = new ScoredCapacity(new Capacity(1L, "Payments Squad", "Handles payments"), 0.9f);
+        ScoredCapacity second = new ScoredCapacity(new Capacity(2L, "Payroll", "Handles payroll"), 0.5f);
+        when(capacityGateway.search("pay", null, null, 10)).thenReturn(Flux.just(first, second));
+        when(technologyGateway.findByCapacityId(1L))
+            .thenReturn(Flux.just(new Technology(10L, "Java", "Java 21")).delayElements(Duration.ofMillis(300)));
+        when(technologyGateway.findByCapacityId(2L))
+            .thenReturn(Flux.just(new Technology(11L, "Go", "Go lang")).delayElements(Duration.ofMillis(300)));
+
+        // When & Then
+        StepVerifier.create(searchCapacitiesUseCase.execute("pay", null, null, 10))
+            .assertNext(response -> assertThat(response.getCapacities()).extracting("capacityId").containsExactly(1L, 2L))
+            .expectComplete()
+            .verify(Duration.ofMillis(550));
+    }
+
+    @Test
+    @DisplayName("Should not call the technology service when technologies are neither filtered nor requested")
+    void shouldSkipTechnologiesWhenNotRequested() {
+        // Given
+        ScoredCapacity first = new ScoredCapacity(new Capacity(1L, "Payments Squad", "Handles payments"), 0.9f);
+        when(capacityGateway.search("pay", null, null, 10)).thenReturn(Flux.just(first));
+
+        // When & Then
+        StepVerifier.create(searchCapacitiesUseCase.execute("pay", null, null, 10, false))
+            .assertNext(response -> {
+                assertThat(response.getCapacities()).extracting("capacityId").containsExactly(1L);
+                assertThat(response.getCapacities().get(0).getTechnologies()).isNull();
+            })
+            .verifyComplete();
+
+        verify(technologyGateway, never()).findByCapacityId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should filter by technology but leave technologies out when they are not requested")
+    void shouldFilterByTechnologyWithoutReturningTechnologies() {
+        // Given
+        ScoredCapacity first = new ScoredCapacity(new Capacity(1L, "Payments Squad", "Handles payments"), 0.9f);
+        ScoredCapacity second = new ScoredCapacity(new Capacity(2L, "Payroll", "Handles payroll"), 0.5f);
+        when(capacityGateway.search("pay", null, null, 10)).thenReturn(Flux.just(first, second));
+        when(technologyGateway.findByCapacityId(1L)).thenReturn(Flux.just(new Technology(10L, "Java", "Java 21")));
+        when(technologyGateway.findByCapacityId(2L)).thenReturn(Flux.just(new Technology(11L, "Go", "Go lang")));
+
+        // When & Then
+        StepVerifier.create(searchCapacitiesUseCase.execute("pay", "java", null, 10, false))
+            .assertNext(response -> {
+                assertThat(response.getCapacities()).extracting("capacityId").containsExactly(1L);
+                assertThat(response.getCapacities().get(0).getTechnologies()).isNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject search text shorter than 3 characters")
+    void shouldRejectShortSearchText() {
+        StepVerifier.create(searchCapacitiesUseCase.execute("pa", null, null, 10))
+            .expectErrorMatches(e -> e instanceof BussinessException
+                && e.getMessage().equals("The search text should have 3 characters minimum."))
+            .verify();
+
+        verify(capacityGateway, never()).search(anyString(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject out of range page size")
+    void shouldRejectOutOfRangeSize() {
+        StepVerifier.create(searchCapacitiesUseCase.execute("pay", null, null, 51))
+            .expectErrorMatches(e -> e instanceof BussinessException
+                && e.getMessage().equals("The search size should be between 1 and 50."))
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        StepVerifier.create(searchCapacitiesUseCase.execute("pay", null, "not-a-cursor", 10))
+            .expectErrorMatches(e -> e instanceof BussinessException
+                && e.getMessage().equals("The search cursor is not valid."))
+            .verify();
+    }
+}
@@ -0,0 +1,68 @@
+package co.com.bancolombia.usecase;
+
+import co.com.bancolombia.model.capacity.CapacityEvent;
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamCapacityEventsUseCase Tests")
+class StreamCapacityEventsUseCaseTest {
+
+    @Mock
+    private CapacityEventGateway capacityEventGateway;
+
+    private StreamCapacityEventsUseCase streamCapacityEventsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        streamCapacityEventsUseCase = new StreamCapacityEventsUseCase(capacityEventGateway);
+    }
+
+    @Test
+    @DisplayName("Should resume after the last event id and keep only the requested bootcamp")
+    void shouldResumeAfterLastEventIdAndFilterByBootcamp() {
+        // Given
+        Instant now = Instant.now();
+        when(capacityEventGateway.stream(41L)).thenReturn(Flux.just(
+            new CapacityEvent(42L, CapacityEventType.CAPACITY_CREATED, 1L, null, now),
+            new CapacityEvent(43L, CapacityEventType.ASSOCIATION_ADDED, 1L, 7L, now),
+            new CapacityEvent(44L, CapacityEventType.ASSOCIATION_REMOVED, 2L, 8L, now)));
+
+        // When & Then
+        StepVerifier.create(streamCapacityEventsUseCase.execute(41L, 7L))
+            .assertNext(event -> {
+                assertEquals(43L, event.getEventId());
+                assertEquals("ASSOCIATION_ADDED", event.getType());
+                assertEquals(7L, event.getBootcampId());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should pass every event through when no bootcamp is given")
+    void shouldPassEveryEventWhenNoBootcampIsGiven() {
+        // Given
+        Instant now = Instant.now();
+        when(capacityEventGateway.stream(null)).thenReturn(Flux.just(
+            new CapacityEvent(1L, CapacityEventType.CAPACITY_CREATED, 1L, null, now),
+            new CapacityEvent(2L, CapacityEventType.CAPACITY_DELETED, 1L, 7L, now)));
+
+        // When & Then
+        StepVerifier.create(streamCapacityEventsUseCase.execute(null, null))
+            .expectNextCount(2)
+            .verifyComplete();
+    }
+}
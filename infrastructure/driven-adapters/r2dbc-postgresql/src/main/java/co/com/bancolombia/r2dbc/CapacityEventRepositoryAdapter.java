@@ -0,0 +1,187 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.capacity.CapacityEvent;
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import co.com.bancolombia.model.capacity.gateway.CapacityEventGateway;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Repository
+public class CapacityEventRepositoryAdapter implements CapacityEventGateway, InitializingBean, DisposableBean {
+  private static final String CHANNEL = "capacity_events";
+  private static final String PUBLISH_QUERY = "WITH inserted AS (" +
+    "INSERT INTO capacity_schema.capacity_event (event_type, capacity_id, bootcamp_id) " +
+    "VALUES (:type, :capacityId, :bootcampId) " +
+    "RETURNING event_id, event_type, capacity_id, bootcamp_id, occurred_at) " +
+    "SELECT pg_notify('" + CHANNEL + "', event_id || '|' || event_type || '|' || capacity_id || '|' || " +
+    "COALESCE(bootcamp_id::TEXT, '') || '|' || (EXTRACT(EPOCH FROM occurred_at) * 1000)::BIGINT) FROM inserted";
+  private static final String REPLAY_QUERY = "SELECT event_id, event_type, capacity_id, bootcamp_id, " +
+    "(EXTRACT(EPOCH FROM occurred_at) * 1000)::BIGINT AS occurred_at_millis " +
+    "FROM capacity_schema.capacity_event WHERE event_id > :afterEventId ORDER BY event_id";
+  private static final String LATEST_EVENT_ID_QUERY = "SELECT COALESCE(MAX(event_id), 0) AS event_id " +
+    "FROM capacity_schema.capacity_event";
+  private static final Duration LISTEN_MIN_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration LISTEN_MAX_BACKOFF = Duration.ofSeconds(30);
+  private final DatabaseClient databaseClient;
+  private final ConnectionFactory connectionFactory;
+  private final int subscriberBuffer;
+  private final int fetchSize;
+  private final Sinks.Many<CapacityEvent> events = Sinks.many().multicast().directBestEffort();
+  private final AtomicLong lastEventId = new AtomicLong(-1L);
+  private Disposable listener;
+
+  public CapacityEventRepositoryAdapter(DatabaseClient databaseClient,
+                                        ConnectionFactory connectionFactory,
+                                        @Value("${adapter.r2dbc.events.subscriber-buffer:256}") int subscriberBuffer,
+                                        @Value("${adapter.r2dbc.fetch-size:100}") int fetchSize) {
+    this.databaseClient = databaseClient;
+    this.connectionFactory = connectionFactory;
+    this.subscriberBuffer = subscriberBuffer;
+    this.fetchSize = fetchSize;
+  }
+
+  // Every replica, including the writer, learns about an event through NOTIFY, so all of them publish all events
+  @Override
+  public Mono<Void> publish(CapacityEvent event) {
+    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(PUBLISH_QUERY)
+      .bind("type", event.getType().name())
+      .bind("capacityId", event.getCapacityId());
+    spec = event.getBootcampId() == null
+      ? spec.bindNull("bootcampId", Long.class)
+      : spec.bind("bootcampId", event.getBootcampId());
+
+    return spec.then()
+      .doOnError(error -> log.warn("Could not publish capacity event {} for capacity {}",
+        event.getType(), event.getCapacityId(), error));
+  }
+
+  @Override
+  public Flux<CapacityEvent> stream(Long afterEventId) {
+    return Flux.defer(() -> {
+      // Live events are buffered from the start so nothing committed while the backlog is read gets lost.
+      // A subscriber that falls a full buffer behind is failed and can resume from its last event id.
+      Sinks.Many<CapacityEvent> buffer = Sinks.many().unicast()
+        .onBackpressureBuffer(Queues.<CapacityEvent>get(subscriberBuffer).get());
+      Disposable live = events.asFlux().subscribe(event -> {
+        if (buffer.tryEmitNext(event).isFailure()) {
+          buffer.tryEmitError(Exceptions.failWithOverflow("Capacity event subscriber fell behind"));
+        }
+      });
+
+      AtomicLong replayedUpTo = new AtomicLong(afterEventId == null ? 0L : afterEventId);
+      Flux<CapacityEvent> backlog = afterEventId == null
+        ? Flux.empty()
+        : replay(afterEventId).doOnNext(event -> replayedUpTo.set(event.getEventId()));
+
+      return backlog
+        .concatWith(buffer.asFlux().filter(event -> event.getEventId() > replayedUpTo.get()))
+        .doFinally(signal -> live.dispose());
+    });
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    listener = listen()
+      .retryWhen(Retry.backoff(Long.MAX_VALUE, LISTEN_MIN_BACKOFF)
+        .maxBackoff(LISTEN_MAX_BACKOFF)
+        .doBeforeRetry(signal -> log.warn("Capacity event listener disconnected, reconnecting", signal.failure())))
+      .subscribe(events::tryEmitNext);
+  }
+
+  @Override
+  public void destroy() {
+    if (listener != null) {
+      listener.dispose();
+    }
+  }
+
+  private Flux<CapacityEvent> replay(Long afterEventId) {
+    return databaseClient.sql(REPLAY_QUERY)
+      .bind("afterEventId", afterEventId)
+      .filter(statement -> statement.fetchSize(fetchSize))
+      .map((row, metadata) -> new CapacityEvent(
+        row.get("event_id", Long.class),
+        CapacityEventType.valueOf(row.get("event_type", String.class)),
+        row.get("capacity_id", Long.class),
+        row.get("bootcamp_id", Long.class),
+        Instant.ofEpochMilli(row.get("occurred_at_millis", Long.class))))
+      .all();
+  }
+
+  private Flux<CapacityEvent> listen() {
+    return Flux.usingWhen(
+        Mono.from(unwrap(connectionFactory).create()),
+        connection -> {
+          if (!(connection instanceof PostgresqlConnection postgres)) {
+            return Flux.error(new IllegalStateException("LISTEN requires a PostgreSQL connection"));
+          }
+          return postgres.createStatement("LISTEN " + CHANNEL).execute()
+            .flatMap(PostgresqlResult::getRowsUpdated)
+            .thenMany(Flux.defer(() -> catchUpAndListen(postgres)));
+        },
+        Connection::close)
+      .doOnNext(event -> lastEventId.accumulateAndGet(event.getEventId(), Math::max));
+  }
+
+  // NOTIFYs sent while the listener was disconnected are lost, so a reconnect replays what was committed since the
+  // last event it emitted. Notifications are subscribed to eagerly and held back until the replay is done.
+  private Flux<CapacityEvent> catchUpAndListen(PostgresqlConnection postgres) {
+    long since = lastEventId.get();
+    AtomicLong replayedUpTo = new AtomicLong(since);
+    Flux<CapacityEvent> missed = since < 0
+      ? latestEventId().doOnNext(id -> lastEventId.accumulateAndGet(id, Math::max)).thenMany(Flux.empty())
+      : replay(since).doOnNext(event -> replayedUpTo.set(event.getEventId()));
+
+    return Flux.mergeSequential(
+      missed,
+      postgres.getNotifications()
+        .map(notification -> fromPayload(notification.getParameter()))
+        .filter(event -> event.getEventId() > replayedUpTo.get()));
+  }
+
+  private Mono<Long> latestEventId() {
+    return databaseClient.sql(LATEST_EVENT_ID_QUERY)
+      .map((row, metadata) -> row.get("event_id", Long.class))
+      .one();
+  }
+
+  // A pooled connection would be handed back to the pool and lose its LISTEN, so the listener opens its own
+  private static ConnectionFactory unwrap(ConnectionFactory factory) {
+    ConnectionFactory current = factory;
+    while (current instanceof Wrapped<?> wrapped && wrapped.unwrap() instanceof ConnectionFactory inner) {
+      current = inner;
+    }
+    return current;
+  }
+
+  private static CapacityEvent fromPayload(String payload) {
+    String[] parts = payload.split("\\|", -1);
+    return new CapacityEvent(
+      Long.valueOf(parts[0]),
+      CapacityEventType.valueOf(parts[1]),
+      Long.valueOf(parts[2]),
+      parts[3].isEmpty() ? null : Long.valueOf(parts[3]),
+      Instant.ofEpochMilli(Long.parseLong(parts[4])));
+  }
+}
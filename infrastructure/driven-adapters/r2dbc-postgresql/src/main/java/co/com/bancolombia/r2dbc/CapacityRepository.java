@@ -1,6 +1,7 @@
 package co.com.bancolombia.r2dbc;
 
 import co.com.bancolombia.r2dbc.entity.CapacityEntity;
+import co.com.bancolombia.r2dbc.entity.CapacitySearchEntity;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
@@ -10,11 +11,15 @@ public interface CapacityRepository extends ReactiveCrudRepository<CapacityEntit
   Mono<Boolean> existsByName(String name);
   Mono<CapacityEntity> findByName(String name);
 
-  @Query("SELECT capacity_id, name, description FROM capacity_schema.capacity ORDER BY name ASC LIMIT :limit OFFSET :offset")
-  Flux<CapacityEntity> findAllOrderByNameAsc(int limit, int offset);
+  @Query("SELECT name FROM capacity_schema.capacity WHERE name = ANY(:names)")
+  Flux<String> findNamesIn(String[] names);
 
-  @Query("SELECT c.* FROM capacity_schema.capacity c " +
-    "JOIN capacity_schema.capacity_bootcamp cb ON c.capacity_id = cb.capacity_id " +
-    "WHERE cb.bootcamp_id = :bootcampId")
-  Flux<CapacityEntity> findByBootcamp(Long bootcampId);
+  @Query("SELECT capacity_id, name, description, score FROM (" +
+    "SELECT capacity_id, name, description, " +
+    "GREATEST(word_similarity(:text, name), word_similarity(:text, description)) AS score " +
+    "FROM capacity_schema.capacity " +
+    "WHERE name ILIKE :pattern OR description ILIKE :pattern) ranked " +
+    "WHERE CAST(:afterScore AS REAL) IS NULL OR score < :afterScore OR (score = :afterScore AND capacity_id > :afterId) " +
+    "ORDER BY score DESC, capacity_id ASC LIMIT :limit")
+  Flux<CapacitySearchEntity> searchByText(String text, String pattern, Float afterScore, Long afterId, int limit);
 }
@@ -2,76 +2,158 @@ package co.com.bancolombia.r2dbc;
 
 import co.com.bancolombia.model.capacity.Capacity;
 import co.com.bancolombia.model.capacity.CapacityBootcamp;
+import co.com.bancolombia.model.capacity.CapacityPage;
+import co.com.bancolombia.model.capacity.CapacitySummary;
+import co.com.bancolombia.model.capacity.ScoredCapacity;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
+import co.com.bancolombia.model.deadline.RequestDeadline;
 import co.com.bancolombia.r2dbc.entity.CapacityBootcampEntity;
 import co.com.bancolombia.r2dbc.entity.CapacityEntity;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 @Repository
 public class CapacityRepositoryAdapter implements CapacityGateway {
+  private static final String LIKE_WILDCARD = "%";
+  private static final String FIND_ALL_QUERY = "SELECT capacity_id, name, description FROM capacity_schema.capacity ORDER BY capacity_id";
+  private static final String FIND_BY_IDS_QUERY = "SELECT capacity_id, name, description FROM capacity_schema.capacity " +
+    "WHERE capacity_id = ANY(:ids)";
+  private static final String FIND_BY_BOOTCAMP_QUERY = "SELECT c.capacity_id, c.name, c.description " +
+    "FROM capacity_schema.capacity c JOIN capacity_schema.capacity_bootcamp cb ON c.capacity_id = cb.capacity_id " +
+    "WHERE cb.bootcamp_id = :bootcampId";
+  private static final String FIND_PAGE_QUERY = "SELECT capacity_id, name, description, COUNT(*) OVER() AS total_elements " +
+    "FROM capacity_schema.capacity ORDER BY name ASC LIMIT :limit OFFSET :offset";
+  private static final String INSERT_ALL_PREFIX = "INSERT INTO capacity_schema.capacity (name, description) VALUES ";
+  private static final String INSERT_ALL_SUFFIX = " RETURNING capacity_id, name, description";
   private final CapacityRepository capacityRepository;
   private final CapacityBootcampRepository capacityBootcampRepository;
+  private final DatabaseClient databaseClient;
+  private final int fetchSize;
 
-  public CapacityRepositoryAdapter(CapacityRepository capacityRepository, CapacityBootcampRepository capacityBootcampRepository) {
+  public CapacityRepositoryAdapter(CapacityRepository capacityRepository,
+                                   CapacityBootcampRepository capacityBootcampRepository,
+                                   DatabaseClient databaseClient,
+                                   @Value("${adapter.r2dbc.fetch-size:100}") int fetchSize) {
     this.capacityRepository = capacityRepository;
     this.capacityBootcampRepository = capacityBootcampRepository;
+    this.databaseClient = databaseClient;
+    this.fetchSize = fetchSize;
   }
 
   @Override
   public Mono<Boolean> existsByName(String name) {
-    return capacityRepository.existsByName(name);
+    return RequestDeadline.bound(capacityRepository.existsByName(name));
   }
 
   @Override
   public Mono<Capacity> save(Capacity capacity) {
     CapacityEntity entity = new CapacityEntity(null, capacity.getName().getValue(), capacity.getDescription().getValue());
-    return capacityRepository.save(entity)
+    return RequestDeadline.bound(capacityRepository.save(entity)
       .map(saved -> {
         capacity.setId(new co.com.bancolombia.model.capacity.values.Id(saved.getId()));
         return capacity;
-      });
+      }));
+  }
+
+  @Override
+  public Flux<Capacity> saveAll(List<Capacity> capacities) {
+    if (capacities.isEmpty()) {
+      return Flux.empty();
+    }
+
+    // One multi-row INSERT ... RETURNING instead of a round trip per capacity
+    String values = IntStream.range(0, capacities.size())
+      .mapToObj(i -> "(:name" + i + ", :description" + i + ")")
+      .collect(Collectors.joining(", "));
+    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_ALL_PREFIX + values + INSERT_ALL_SUFFIX);
+    for (int i = 0; i < capacities.size(); i++) {
+      spec = spec
+        .bind("name" + i, capacities.get(i).getName().getValue())
+        .bind("description" + i, capacities.get(i).getDescription().getValue());
+    }
+
+    return RequestDeadline.bound(spec
+      .map((row, metadata) -> new Capacity(
+        row.get("capacity_id", Long.class),
+        row.get("name", String.class),
+        row.get("description", String.class)))
+      .all());
+  }
+
+  @Override
+  public Flux<String> findExistingNames(List<String> names) {
+    return RequestDeadline.bound(capacityRepository.findNamesIn(names.toArray(String[]::new)));
   }
 
   @Override
-  public Flux<Capacity> findAll() {
-    return capacityRepository.findAll().map(entity -> new Capacity(entity.getId(), entity.getName(), entity.getDescription()));
+  public Flux<CapacitySummary> findAll() {
+    // A fetch size makes the driver read through a portal cursor, so rows are pulled as downstream demand arrives
+    return RequestDeadline.bound(databaseClient.sql(FIND_ALL_QUERY)
+      .filter(statement -> statement.fetchSize(fetchSize))
+      .map(CapacityRepositoryAdapter::toSummary)
+      .all()
+      .limitRate(fetchSize));
   }
 
   @Override
-  public Flux<Capacity> findAllPagedSorted(int page, int size, String sortBy, String order) {
+  public Mono<CapacityPage> findAllPagedSorted(int page, int size, String sortBy, String order) {
     int limit = Math.max(size, 0);
     int offset = Math.max(page, 0) * limit;
 
-    if ("desc".equalsIgnoreCase(order)) {
-      return capacityRepository
-        .findAllOrderByNameAsc(limit, offset)
-        .collectList()
-        .flatMapMany(list -> {
-          java.util.Collections.reverse(list);
-          return reactor.core.publisher.Flux.fromIterable(list);
-        })
-        .map(entity -> new Capacity(entity.getId(), entity.getName(), entity.getDescription()));
-    }
-    return capacityRepository
-      .findAllOrderByNameAsc(limit, offset)
-      .map(entity -> new Capacity(entity.getId(), entity.getName(), entity.getDescription()));
+    return RequestDeadline.bound(databaseClient.sql(FIND_PAGE_QUERY)
+      .bind("limit", limit)
+      .bind("offset", offset)
+      .map((row, metadata) -> new PageRow(toSummary(row, metadata), row.get("total_elements", Long.class)))
+      .all()
+      .collectList()
+      .flatMap(rows -> {
+        // COUNT(*) OVER() rides along with the page; only a page past the end needs its own count
+        Mono<Long> total = rows.isEmpty()
+          ? capacityRepository.count()
+          : Mono.just(rows.get(0).totalElements());
+        List<CapacitySummary> capacities = rows.stream()
+          .map(PageRow::capacity)
+          .collect(Collectors.toList());
+
+        if ("desc".equalsIgnoreCase(order)) {
+          Collections.reverse(capacities);
+        }
+        return total.map(totalElements -> new CapacityPage(capacities, totalElements));
+      }));
   }
 
   @Override
   public Mono<Capacity> findById(Long capacityId) {
-    return capacityRepository
+    return RequestDeadline.bound(capacityRepository
       .findById(capacityId)
-      .map(entity -> new Capacity(entity.getId(), entity.getName(), entity.getDescription()));
+      .map(entity -> new Capacity(entity.getId(), entity.getName(), entity.getDescription())));
   }
 
   @Override
-  public Flux<Capacity> findByBootcamp(Long bootcampId) {
-    return capacityRepository
-      .findByBootcamp(bootcampId)
-      .map(entity -> new Capacity(entity.getId(), entity.getName(), entity.getDescription()));
+  public Flux<CapacitySummary> findByIds(List<Long> capacityIds) {
+    return RequestDeadline.bound(databaseClient.sql(FIND_BY_IDS_QUERY)
+      .bind("ids", capacityIds.toArray(Long[]::new))
+      .map(CapacityRepositoryAdapter::toSummary)
+      .all());
+  }
+
+  @Override
+  public Flux<CapacitySummary> findByBootcamp(Long bootcampId) {
+    return RequestDeadline.bound(databaseClient.sql(FIND_BY_BOOTCAMP_QUERY)
+      .bind("bootcampId", bootcampId)
+      .map(CapacityRepositoryAdapter::toSummary)
+      .all());
   }
 
   @Override
@@ -84,35 +166,63 @@ public class CapacityRepositoryAdapter implements CapacityGateway {
       .capacityId(capId)
       .build();
 
-    return capacityBootcampRepository.save(entity)
+    return RequestDeadline.bound(capacityBootcampRepository.save(entity)
       .map(savedEntity -> new CapacityBootcamp(
         savedEntity.getBootcampId(),
         savedEntity.getCapacityId()
-      ));
+      )));
   }
 
   @Override
   public Mono<CapacityBootcamp> findByBootcampIdAndCapacityId(Long bootcampId, Long capacityId) {
-    return capacityBootcampRepository.findByBootcampIdAndCapacityId(bootcampId, capacityId)
-      .map(entity -> new CapacityBootcamp(entity.getBootcampId(), entity.getCapacityId()));
+    return RequestDeadline.bound(capacityBootcampRepository.findByBootcampIdAndCapacityId(bootcampId, capacityId)
+      .map(entity -> new CapacityBootcamp(entity.getBootcampId(), entity.getCapacityId())));
   }
 
   @Override
   public Mono<Long> countBootcampsByCapacityId(Long capacityId) {
-    return capacityBootcampRepository.countByCapacityId(capacityId);
+    return RequestDeadline.bound(capacityBootcampRepository.countByCapacityId(capacityId));
   }
 
   @Override
   @Transactional
   public Mono<Void> delete(Long capacityId) {
-    return capacityRepository.deleteById(capacityId)
-      .then();
+    return RequestDeadline.bound(capacityRepository.deleteById(capacityId)
+      .then());
   }
 
   @Override
   @Transactional
   public Mono<Void> deleteCapacityBootcampRelation(Long capacityId, Long bootcampId) {
-    return capacityBootcampRepository.deleteByCapacityIdAndBootcampId(capacityId, bootcampId)
-      .then();
+    return RequestDeadline.bound(capacityBootcampRepository.deleteByCapacityIdAndBootcampId(capacityId, bootcampId)
+      .then());
+  }
+
+  @Override
+  public Flux<ScoredCapacity> search(String text, Float afterScore, Long afterId, int limit) {
+    return RequestDeadline.bound(capacityRepository
+      .searchByText(text, toContainsPattern(text), afterScore, afterId, limit)
+      .map(entity -> new ScoredCapacity(
+        new Capacity(entity.getId(), entity.getName(), entity.getDescription()),
+        entity.getScore())));
+  }
+
+  // Rows come from our own table, so they are read straight into the record without the validating value objects
+  private static CapacitySummary toSummary(Row row, RowMetadata metadata) {
+    return new CapacitySummary(
+      row.get("capacity_id", Long.class),
+      row.get("name", String.class),
+      row.get("description", String.class));
+  }
+
+  private String toContainsPattern(String text) {
+    String escaped = text
+      .replace("\\", "\\\\")
+      .replace("%", "\\%")
+      .replace("_", "\\_");
+    return LIKE_WILDCARD + escaped + LIKE_WILDCARD;
+  }
+
+  private record PageRow(CapacitySummary capacity, long totalElements) {
   }
 }
@@ -0,0 +1,85 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.IdempotentResponse;
+import co.com.bancolombia.model.idempotency.gateway.IdempotencyGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepositoryAdapter implements IdempotencyGateway {
+  private static final String CLAIM_QUERY = "INSERT INTO capacity_schema.idempotency_key (idempotency_key, fingerprint) " +
+    "VALUES (:key, :fingerprint) ON CONFLICT (idempotency_key) DO NOTHING";
+  private static final String FIND_QUERY = "SELECT idempotency_key, fingerprint, status_code, content_type, body " +
+    "FROM capacity_schema.idempotency_key WHERE idempotency_key = :key";
+  private static final String COMPLETE_QUERY = "UPDATE capacity_schema.idempotency_key " +
+    "SET status_code = :statusCode, content_type = :contentType, body = :body, completed_at = NOW() " +
+    "WHERE idempotency_key = :key";
+  private static final String RELEASE_QUERY = "DELETE FROM capacity_schema.idempotency_key " +
+    "WHERE idempotency_key = :key AND completed_at IS NULL";
+  private static final String DELETE_EXPIRED_QUERY = "DELETE FROM capacity_schema.idempotency_key " +
+    "WHERE (completed_at IS NOT NULL AND completed_at < :completedBefore) " +
+    "OR (completed_at IS NULL AND created_at < :claimedBefore)";
+  private final DatabaseClient databaseClient;
+
+  // The primary key arbitrates between instances: only the insert that lands owns the request
+  @Override
+  public Mono<Boolean> claim(String key, String fingerprint) {
+    return databaseClient.sql(CLAIM_QUERY)
+      .bind("key", key)
+      .bind("fingerprint", fingerprint)
+      .fetch()
+      .rowsUpdated()
+      .map(rows -> rows > 0);
+  }
+
+  @Override
+  public Mono<IdempotencyRecord> find(String key) {
+    return databaseClient.sql(FIND_QUERY)
+      .bind("key", key)
+      .map((row, metadata) -> {
+        Integer statusCode = row.get("status_code", Integer.class);
+        return new IdempotencyRecord(
+          row.get("idempotency_key", String.class),
+          row.get("fingerprint", String.class),
+          statusCode == null ? null : new IdempotentResponse(statusCode,
+            row.get("content_type", String.class),
+            row.get("body", byte[].class)));
+      })
+      .one();
+  }
+
+  @Override
+  public Mono<Void> complete(String key, IdempotentResponse response) {
+    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(COMPLETE_QUERY)
+      .bind("key", key)
+      .bind("statusCode", response.getStatusCode())
+      .bind("body", response.getBody());
+    spec = response.getContentType() == null
+      ? spec.bindNull("contentType", String.class)
+      : spec.bind("contentType", response.getContentType());
+
+    return spec.then();
+  }
+
+  @Override
+  public Mono<Void> release(String key) {
+    return databaseClient.sql(RELEASE_QUERY)
+      .bind("key", key)
+      .then();
+  }
+
+  @Override
+  public Mono<Long> deleteExpired(Instant completedBefore, Instant claimedBefore) {
+    return databaseClient.sql(DELETE_EXPIRED_QUERY)
+      .bind("completedBefore", completedBefore)
+      .bind("claimedBefore", claimedBefore)
+      .fetch()
+      .rowsUpdated();
+  }
+}
@@ -0,0 +1,20 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.r2dbc.entity.PendingTechnologyDeletionEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface PendingTechnologyDeletionRepository extends ReactiveCrudRepository<PendingTechnologyDeletionEntity, Long> {
+  @Modifying
+  @Query("INSERT INTO capacity_schema.pending_technology_deletion (capacity_id, attempts, enqueued_at) " +
+    "VALUES (:capacityId, 1, NOW()) ON CONFLICT (capacity_id) " +
+    "DO UPDATE SET attempts = capacity_schema.pending_technology_deletion.attempts + 1")
+  Mono<Integer> upsert(Long capacityId);
+
+  @Query("SELECT capacity_id, attempts, enqueued_at FROM capacity_schema.pending_technology_deletion " +
+    "ORDER BY enqueued_at, capacity_id LIMIT :limit")
+  Flux<PendingTechnologyDeletionEntity> findOldest(int limit);
+}
@@ -0,0 +1,31 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.capacity.gateway.TechnologyDeletionQueueGateway;
+import co.com.bancolombia.r2dbc.entity.PendingTechnologyDeletionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class PendingTechnologyDeletionRepositoryAdapter implements TechnologyDeletionQueueGateway {
+  private final PendingTechnologyDeletionRepository pendingTechnologyDeletionRepository;
+
+  @Override
+  public Mono<Void> enqueue(Long capacityId) {
+    // Upsert so a capacity that fails again keeps its place in the queue and only bumps its attempts
+    return pendingTechnologyDeletionRepository.upsert(capacityId).then();
+  }
+
+  @Override
+  public Flux<Long> findPending(int limit) {
+    return pendingTechnologyDeletionRepository.findOldest(limit)
+      .map(PendingTechnologyDeletionEntity::getCapacityId);
+  }
+
+  @Override
+  public Mono<Void> remove(Long capacityId) {
+    return pendingTechnologyDeletionRepository.deleteById(capacityId);
+  }
+}
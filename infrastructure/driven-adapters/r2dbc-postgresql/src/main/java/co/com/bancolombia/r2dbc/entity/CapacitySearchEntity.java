@@ -0,0 +1,23 @@
+package co.com.bancolombia.r2dbc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CapacitySearchEntity {
+  @Column("capacity_id")
+  private Long id;
+
+  @Column("name")
+  private String name;
+
+  @Column("description")
+  private String description;
+
+  @Column("score")
+  private Float score;
+}
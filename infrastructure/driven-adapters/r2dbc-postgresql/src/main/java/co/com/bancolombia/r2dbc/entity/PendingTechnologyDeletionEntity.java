@@ -0,0 +1,28 @@
+package co.com.bancolombia.r2dbc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table(name = "pending_technology_deletion", schema = "capacity_schema")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PendingTechnologyDeletionEntity {
+  @Id
+  @Column("capacity_id")
+  private Long capacityId;
+
+  @Column("attempts")
+  private Integer attempts;
+
+  @Column("enqueued_at")
+  private LocalDateTime enqueuedAt;
+}
@@ -0,0 +1,156 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.capacity.CapacityEvent;
+import co.com.bancolombia.model.capacity.CapacityEventType;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.postgresql.api.PostgresqlStatement;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapacityEventRepositoryAdapterTest {
+
+  @Mock
+  private DatabaseClient databaseClient;
+
+  @Mock
+  private DatabaseClient.GenericExecuteSpec executeSpec;
+
+  @Mock
+  private RowsFetchSpec<CapacityEvent> rowsFetchSpec;
+
+  @Mock
+  private RowsFetchSpec<Long> latestEventIdSpec;
+
+  @Mock
+  private ConnectionFactory connectionFactory;
+
+  private CapacityEventRepositoryAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new CapacityEventRepositoryAdapter(databaseClient, connectionFactory, 16, 50);
+  }
+
+  @Test
+  @DisplayName("Should replay events after the last event id before switching to live events")
+  void shouldReplayEventsAfterLastEventId() {
+    // Arrange
+    Instant now = Instant.now();
+    when(databaseClient.sql(contains("event_id > :afterEventId"))).thenReturn(executeSpec);
+    when(executeSpec.bind("afterEventId", 41L)).thenReturn(executeSpec);
+    when(executeSpec.filter(ArgumentMatchers.<java.util.function.Function<io.r2dbc.spi.Statement, io.r2dbc.spi.Statement>>any()))
+      .thenReturn(executeSpec);
+    when(executeSpec.map(ArgumentMatchers.<BiFunction<Row, RowMetadata, CapacityEvent>>any())).thenReturn(rowsFetchSpec);
+    when(rowsFetchSpec.all()).thenReturn(Flux.just(
+      new CapacityEvent(42L, CapacityEventType.CAPACITY_CREATED, 1L, null, now),
+      new CapacityEvent(43L, CapacityEventType.ASSOCIATION_ADDED, 1L, 7L, now)));
+
+    // Act & Assert
+    StepVerifier.create(adapter.stream(41L).map(CapacityEvent::getEventId))
+      .expectNext(42L, 43L)
+      .thenCancel()
+      .verify();
+  }
+
+  @Test
+  @DisplayName("Should replay events committed while the listener was reconnecting")
+  void shouldReplayEventsMissedWhileReconnecting() {
+    // Arrange
+    Instant now = Instant.now();
+    DatabaseClient.GenericExecuteSpec latestSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+    when(databaseClient.sql(contains("MAX(event_id)"))).thenReturn(latestSpec);
+    when(latestSpec.map(ArgumentMatchers.<BiFunction<Row, RowMetadata, Long>>any())).thenReturn(latestEventIdSpec);
+    when(latestEventIdSpec.one()).thenReturn(Mono.just(4L));
+
+    when(databaseClient.sql(contains("event_id > :afterEventId"))).thenReturn(executeSpec);
+    when(executeSpec.bind("afterEventId", 5L)).thenReturn(executeSpec);
+    when(executeSpec.filter(ArgumentMatchers.<java.util.function.Function<io.r2dbc.spi.Statement, io.r2dbc.spi.Statement>>any()))
+      .thenReturn(executeSpec);
+    when(executeSpec.map(ArgumentMatchers.<BiFunction<Row, RowMetadata, CapacityEvent>>any())).thenReturn(rowsFetchSpec);
+    when(rowsFetchSpec.all()).thenReturn(Flux.just(
+      new CapacityEvent(6L, CapacityEventType.CAPACITY_CREATED, 2L, null, now),
+      new CapacityEvent(7L, CapacityEventType.ASSOCIATION_ADDED, 2L, 9L, now)));
+
+    PostgresqlConnection dropped = listeningConnection(Flux.just(notification(5L, now))
+      .concatWith(Flux.error(new IllegalStateException("Connection lost"))));
+    PostgresqlConnection reconnected = listeningConnection(Flux.just(notification(7L, now), notification(8L, now))
+      .concatWith(Flux.never()));
+    // Like a real factory, every subscription to create() opens a new connection
+    Iterator<PostgresqlConnection> connections = List.of(dropped, reconnected).iterator();
+    doReturn(Mono.fromSupplier(connections::next)).when(connectionFactory).create();
+
+    // Act & Assert
+    try {
+      StepVerifier.create(adapter.stream(null).map(CapacityEvent::getEventId))
+        .then(adapter::afterPropertiesSet)
+        .expectNext(5L, 6L, 7L, 8L)
+        .thenCancel()
+        .verify(Duration.ofSeconds(5));
+    } finally {
+      adapter.destroy();
+    }
+
+    verify(executeSpec).bind("afterEventId", 5L);
+  }
+
+  private PostgresqlConnection listeningConnection(Flux<Notification> notifications) {
+    PostgresqlConnection connection = mock(PostgresqlConnection.class);
+    PostgresqlStatement statement = mock(PostgresqlStatement.class);
+    PostgresqlResult result = mock(PostgresqlResult.class);
+    when(connection.createStatement("LISTEN capacity_events")).thenReturn(statement);
+    when(statement.execute()).thenReturn(Flux.just(result));
+    when(result.getRowsUpdated()).thenReturn(Mono.just(0L));
+    when(connection.getNotifications()).thenReturn(notifications);
+    when(connection.close()).thenReturn(Mono.empty());
+    return connection;
+  }
+
+  private Notification notification(long eventId, Instant occurredAt) {
+    Notification notification = mock(Notification.class);
+    when(notification.getParameter()).thenReturn(eventId + "|CAPACITY_CREATED|2||" + occurredAt.toEpochMilli());
+    return notification;
+  }
+
+  @Test
+  @DisplayName("Should bind a null bootcamp id when publishing a capacity-only event")
+  void shouldBindNullBootcampIdWhenPublishingCapacityEvent() {
+    // Arrange
+    when(databaseClient.sql(contains("pg_notify"))).thenReturn(executeSpec);
+    when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+    when(executeSpec.bindNull("bootcampId", Long.class)).thenReturn(executeSpec);
+    when(executeSpec.then()).thenReturn(Mono.empty());
+
+    // Act & Assert
+    StepVerifier.create(adapter.publish(new CapacityEvent(CapacityEventType.CAPACITY_CREATED, 5L, null)))
+      .verifyComplete();
+
+    verify(executeSpec).bind("type", "CAPACITY_CREATED");
+    verify(executeSpec).bind("capacityId", 5L);
+    verify(executeSpec).bindNull("bootcampId", Long.class);
+  }
+}
@@ -2,23 +2,34 @@ package co.com.bancolombia.r2dbc;
 
 import co.com.bancolombia.model.capacity.Capacity;
 import co.com.bancolombia.model.capacity.CapacityBootcamp;
+import co.com.bancolombia.model.capacity.CapacitySummary;
 import co.com.bancolombia.model.capacity.values.Id;
 import co.com.bancolombia.model.capacity.values.Name;
 import co.com.bancolombia.model.capacity.values.Description;
 import co.com.bancolombia.r2dbc.entity.CapacityBootcampEntity;
 import co.com.bancolombia.r2dbc.entity.CapacityEntity;
+import co.com.bancolombia.r2dbc.entity.CapacitySearchEntity;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,11 +44,50 @@ class CapacityRepositoryAdapterTest {
   @Mock
   private CapacityBootcampRepository capacityBootcampRepository;
 
+  @Mock
+  private DatabaseClient databaseClient;
+
+  @Mock
+  private DatabaseClient.GenericExecuteSpec executeSpec;
+
+  @Mock
+  private RowsFetchSpec<CapacitySummary> rowsFetchSpec;
+
+  @Mock
+  private RowsFetchSpec<Object> pageRowsFetchSpec;
+
+  @Mock
+  private Row row;
+
+  @Mock
+  private Statement statement;
+
   private CapacityRepositoryAdapter adapter;
 
   @BeforeEach
   void setUp() {
-    adapter = new CapacityRepositoryAdapter(capacityRepository, capacityBootcampRepository);
+    adapter = new CapacityRepositoryAdapter(capacityRepository, capacityBootcampRepository, databaseClient, 50);
+  }
+
+  @Test
+  @DisplayName("Should stream all capacities using the configured fetch size")
+  void shouldStreamAllCapacitiesUsingConfiguredFetchSize() {
+    // Arrange
+    ArgumentCaptor<Function<Statement, Statement>> filterCaptor = ArgumentCaptor.captor();
+    when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+    when(executeSpec.filter(filterCaptor.capture())).thenReturn(executeSpec);
+    when(executeSpec.map(ArgumentMatchers.<BiFunction<Row, RowMetadata, CapacitySummary>>any())).thenReturn(rowsFetchSpec);
+    when(rowsFetchSpec.all()).thenReturn(Flux.just(
+      new CapacitySummary(1L, "Backend", "Backend capacity"),
+      new CapacitySummary(2L, "Frontend", "Frontend capacity")));
+
+    // Act & Assert
+    StepVerifier.create(adapter.findAll().map(CapacitySummary::capacityId))
+      .expectNext(1L, 2L)
+      .verifyComplete();
+
+    filterCaptor.getValue().apply(statement);
+    verify(statement).fetchSize(50);
   }
 
   @Test
@@ -135,4 +185,96 @@ class CapacityRepositoryAdapterTest {
 
     verify(capacityBootcampRepository).deleteByCapacityIdAndBootcampId(capacityId, bootcampId);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Should search capacities with an escaped contains pattern")
+  void shouldSearchCapacitiesWithEscapedContainsPattern() {
+    // Arrange
+    when(capacityRepository.searchByText("50%_off", "%50\\%\\_off%", 0.5f, 7L, 10))
+      .thenReturn(Flux.just(new CapacitySearchEntity(8L, "50%_off squad", "Discounts", 0.4f)));
+
+    // Act & Assert
+    StepVerifier.create(adapter.search("50%_off", 0.5f, 7L, 10))
+      .assertNext(hit -> {
+        assertEquals(8L, hit.getCapacity().getId().getValue());
+        assertEquals("50%_off squad", hit.getCapacity().getName().getValue());
+        assertEquals(0.4f, hit.getScore());
+      })
+      .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should map bootcamp rows straight into capacity summaries")
+  void shouldMapBootcampRowsStraightIntoSummaries() {
+    // Arrange
+    ArgumentCaptor<BiFunction<Row, RowMetadata, CapacitySummary>> mapperCaptor = ArgumentCaptor.captor();
+    when(databaseClient.sql(contains("cb.bootcamp_id = :bootcampId"))).thenReturn(executeSpec);
+    when(executeSpec.bind("bootcampId", 100L)).thenReturn(executeSpec);
+    when(executeSpec.map(mapperCaptor.capture())).thenReturn(rowsFetchSpec);
+    when(rowsFetchSpec.all()).thenReturn(Flux.empty());
+    when(row.get("capacity_id", Long.class)).thenReturn(7L);
+    when(row.get("name", String.class)).thenReturn("Backend");
+    when(row.get("description", String.class)).thenReturn("Backend capacity");
+
+    // Act
+    StepVerifier.create(adapter.findByBootcamp(100L)).verifyComplete();
+
+    // Assert
+    assertEquals(new CapacitySummary(7L, "Backend", "Backend capacity"), mapperCaptor.getValue().apply(row, null));
+  }
+
+  @Test
+  @DisplayName("Should return page and total from the windowed page query")
+  void shouldReturnPageAndTotalFromWindowedQuery() {
+    // Arrange
+    stubPageQuery(2, 2);
+    when(row.get("capacity_id", Long.class)).thenReturn(3L, 4L);
+    when(row.get("name", String.class)).thenReturn("C", "D");
+    when(row.get("description", String.class)).thenReturn("C desc", "D desc");
+    when(row.get("total_elements", Long.class)).thenReturn(5L);
+
+    // Act & Assert
+    StepVerifier.create(adapter.findAllPagedSorted(1, 2, "name", "desc"))
+      .assertNext(page -> {
+        assertEquals(5L, page.totalElements());
+        assertEquals(4L, page.capacities().get(0).capacityId());
+        assertEquals(3L, page.capacities().get(1).capacityId());
+      })
+      .verifyComplete();
+
+    verify(capacityRepository, never()).count();
+  }
+
+  @Test
+  @DisplayName("Should fall back to a count when the page is past the end")
+  void shouldFallBackToCountWhenPageIsPastTheEnd() {
+    // Arrange
+    ArgumentCaptor<BiFunction<Row, RowMetadata, Object>> mapperCaptor = ArgumentCaptor.captor();
+    when(databaseClient.sql(contains("COUNT(*) OVER()"))).thenReturn(executeSpec);
+    when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+    when(executeSpec.map(mapperCaptor.capture())).thenReturn(pageRowsFetchSpec);
+    when(pageRowsFetchSpec.all()).thenReturn(Flux.empty());
+    when(capacityRepository.count()).thenReturn(Mono.just(7L));
+
+    // Act & Assert
+    StepVerifier.create(adapter.findAllPagedSorted(10, 10, "name", "asc"))
+      .assertNext(page -> {
+        assertEquals(7L, page.totalElements());
+        assertTrue(page.capacities().isEmpty());
+      })
+      .verifyComplete();
+
+    verify(executeSpec).bind("offset", 100);
+  }
+
+  // Runs the adapter's own row mapper over two rows, as the driver would
+  private void stubPageQuery(int limit, int offset) {
+    ArgumentCaptor<BiFunction<Row, RowMetadata, Object>> mapperCaptor = ArgumentCaptor.captor();
+    when(databaseClient.sql(contains("COUNT(*) OVER()"))).thenReturn(executeSpec);
+    when(executeSpec.bind("limit", limit)).thenReturn(executeSpec);
+    when(executeSpec.bind("offset", offset)).thenReturn(executeSpec);
+    when(executeSpec.map(mapperCaptor.capture())).thenReturn(pageRowsFetchSpec);
+    when(pageRowsFetchSpec.all()).thenAnswer(invocation -> Flux.range(0, 2)
+      .map(i -> mapperCaptor.getValue().apply(row, null)));
+  }
+}
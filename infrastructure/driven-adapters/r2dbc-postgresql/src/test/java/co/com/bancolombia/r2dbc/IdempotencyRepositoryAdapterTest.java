@@ -0,0 +1,72 @@
+package co.com.bancolombia.r2dbc;
+
+import co.com.bancolombia.model.idempotency.IdempotentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyRepositoryAdapterTest {
+
+  @Mock
+  private DatabaseClient databaseClient;
+
+  @Mock
+  private DatabaseClient.GenericExecuteSpec executeSpec;
+
+  @Mock
+  private FetchSpec<Map<String, Object>> fetchSpec;
+
+  private IdempotencyRepositoryAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new IdempotencyRepositoryAdapter(databaseClient);
+  }
+
+  @Test
+  @DisplayName("Should own the key only when the claim insert lands")
+  void shouldOwnKeyOnlyWhenClaimInsertLands() {
+    // Arrange
+    when(databaseClient.sql(contains("ON CONFLICT (idempotency_key) DO NOTHING"))).thenReturn(executeSpec);
+    when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+    when(executeSpec.fetch()).thenReturn(fetchSpec);
+    when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L), Mono.just(0L));
+
+    // Act & Assert
+    StepVerifier.create(adapter.claim("retry-1", "a".repeat(64)))
+      .expectNext(true)
+      .verifyComplete();
+    StepVerifier.create(adapter.claim("retry-1", "a".repeat(64)))
+      .expectNext(false)
+      .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should bind a null content type when completing a response without body type")
+  void shouldBindNullContentTypeWhenCompleting() {
+    // Arrange
+    when(databaseClient.sql(startsWith("UPDATE capacity_schema.idempotency_key"))).thenReturn(executeSpec);
+    when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+    when(executeSpec.bindNull("contentType", String.class)).thenReturn(executeSpec);
+    when(executeSpec.then()).thenReturn(Mono.empty());
+
+    // Act & Assert
+    StepVerifier.create(adapter.complete("retry-1", new IdempotentResponse(204, null, new byte[0])))
+      .verifyComplete();
+
+    verify(executeSpec).bind("statusCode", 204);
+  }
+}
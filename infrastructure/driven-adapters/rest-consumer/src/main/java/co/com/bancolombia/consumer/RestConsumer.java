@@ -2,25 +2,60 @@ package co.com.bancolombia.consumer;
 
 import co.com.bancolombia.model.capacity.CapacityTechnology;
 import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.TechnologyDeletionQueueGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.model.deadline.RequestDeadline;
 import co.com.bancolombia.consumer.exception.BussinessException;
+import co.com.bancolombia.consumer.resilience.AdaptiveConcurrencyLimiter;
+import co.com.bancolombia.consumer.resilience.RequestHedger;
+import co.com.bancolombia.consumer.resilience.RequestRetrier;
+import co.com.bancolombia.consumer.resilience.TechnologyFallbackCache;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RestConsumer implements TechnologyGateway {
+  private static final String FIND_BY_CAPACITY_ID = "findByCapacityId";
+  private static final String FIND_BY_CAPACITY_IDS = "findByCapacityIds";
+  private static final String FIND_ALL = "findAll";
+  private static final String DELETE_TECHNOLOGIES_BY_CAPACITY = "deleteTechnologiesByCapacity";
+  private static final String FALLBACK_METRIC = "technology.fallback";
+  private static final String BATCH_UNSUPPORTED_METRIC = "technology.batch.unsupported";
+  private static final String OPERATION_TAG = "operation";
   private final WebClient client;
+  private final RequestHedger requestHedger;
+  private final RequestRetrier requestRetrier;
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+  private final TechnologyFallbackCache fallbackCache;
+  private final TechnologyDeletionQueueGateway deletionQueue;
+  private final MeterRegistry meterRegistry;
+  private final TechnologyConcurrency technologyConcurrency;
 
   @CircuitBreaker(name = "associateTechnology")
+  @RateLimiter(name = "associateTechnology")
+  @Bulkhead(name = "associateTechnology")
   @Override
   public Mono<Technology> associateTechnology(CapacityTechnology capacityTechnology) {
     ObjectRequest request = ObjectRequest.builder()
@@ -28,55 +63,182 @@ public class RestConsumer implements TechnologyGateway {
       .technology(capacityTechnology.getTechnology().getValue())
       .build();
 
-    return client
-      .post()
-      .uri("/associate")
-      .body(Mono.just(request), ObjectRequest.class)
-      .retrieve()
-      .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
-      .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
-      .bodyToMono(ObjectResponse.class)
-      .map(resp -> new Technology(resp.getTechnologyId(), resp.getName(), resp.getDescription()));
+    // Writes queue on the adaptive limiter instead of failing fast, so a create never stops halfway on local shedding
+    return RequestDeadline.bound(concurrencyLimiter.execute(client
+        .post()
+        .uri("/associate")
+        .body(Mono.just(request), ObjectRequest.class)
+        .retrieve()
+        .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
+        .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
+        .bodyToMono(ObjectResponse.class)))
+      .map(this::toTechnology);
   }
 
-  @CircuitBreaker(name = "findByCapacityId")
+  @CircuitBreaker(name = "findByCapacityId", fallbackMethod = "findByCapacityIdFallback")
+  @RateLimiter(name = "findByCapacityId")
+  @Bulkhead(name = "findByCapacityId")
   @Override
   public Flux<Technology> findByCapacityId(Long capacityId) {
-    return client
-      .get()
-      .uri("/capacity/" + capacityId)
-      .retrieve()
-      .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
-      .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
-      .bodyToFlux(ObjectResponse.class)
-      .map(resp -> new Technology(resp.getTechnologyId(), resp.getName(), resp.getDescription()));
+    return RequestDeadline.bound(Flux.defer(() -> {
+      List<ObjectResponse> received = new ArrayList<>();
+      return requestRetrier.retry(FIND_BY_CAPACITY_ID, () -> requestHedger.hedge(FIND_BY_CAPACITY_ID,
+          () -> concurrencyLimiter.execute(() -> client
+            .get()
+            .uri("/capacity/" + capacityId)
+            .retrieve()
+            .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
+            .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
+            .bodyToFlux(ObjectResponse.class))))
+        .doOnNext(received::add)
+        .doOnComplete(() -> fallbackCache.putByCapacity(capacityId, received));
+    })).map(this::toTechnology);
   }
 
-  @CircuitBreaker(name = "findAll")
+  @CircuitBreaker(name = "findByCapacityIds", fallbackMethod = "findByCapacityIdsFallback")
+  @RateLimiter(name = "findByCapacityIds")
+  @Bulkhead(name = "findByCapacityIds")
+  @Override
+  public Mono<Map<Long, List<Technology>>> findByCapacityIds(List<Long> capacityIds) {
+    String ids = capacityIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+    // Not hedged: a duplicate of a batch read costs as much as the whole batch.
+    // A technology service without GET /capacity?ids= answers 404, and the batch is then read one capacity at a time
+    return RequestDeadline.bound(requestRetrier.retry(FIND_BY_CAPACITY_IDS,
+        () -> concurrencyLimiter.execute(() -> client
+          .get()
+          .uri(uriBuilder -> uriBuilder.path("/capacity").queryParam("ids", ids).build())
+          .retrieve()
+          .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), ClientResponse::createException)
+          .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
+          .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
+          .bodyToFlux(ObjectResponse.class)))
+      .collectList())
+      .map(received -> {
+        Map<Long, List<ObjectResponse>> byCapacity = new LinkedHashMap<>();
+        capacityIds.forEach(capacityId -> byCapacity.put(capacityId, new ArrayList<>()));
+        // Technologies of capacities that were not asked for are dropped rather than cached or returned
+        received.forEach(resp -> {
+          List<ObjectResponse> responses = byCapacity.get(resp.getCapacityId());
+          if (responses != null) {
+            responses.add(resp);
+          }
+        });
+        byCapacity.forEach(fallbackCache::putByCapacity);
+
+        Map<Long, List<Technology>> technologies = new LinkedHashMap<>();
+        byCapacity.forEach((capacityId, responses) -> technologies.put(capacityId, responses.stream().map(this::toTechnology).toList()));
+        return technologies;
+      })
+      .onErrorResume(WebClientResponseException.NotFound.class, notFound -> findEachByCapacityId(capacityIds));
+  }
+
+  // Self-invocation skips the findByCapacityId annotations; the batch's own circuit breaker, limiter and bulkhead still apply
+  private Mono<Map<Long, List<Technology>>> findEachByCapacityId(List<Long> capacityIds) {
+    meterRegistry.counter(BATCH_UNSUPPORTED_METRIC).increment();
+    return Flux.fromIterable(capacityIds)
+      .flatMapSequential(capacityId -> findByCapacityId(capacityId)
+        .collectList()
+        .map(technologies -> Map.entry(capacityId, technologies)), technologyConcurrency.perRequest())
+      .<Map<Long, List<Technology>>>collect(LinkedHashMap::new, (technologies, entry) -> technologies.put(entry.getKey(), entry.getValue()));
+  }
+
+  @CircuitBreaker(name = "findAll", fallbackMethod = "findAllFallback")
+  @RateLimiter(name = "findAll")
+  @Bulkhead(name = "findAll")
   @Override
   public Flux<Technology> findAll() {
-    return client
-      .get()
-      .retrieve()
-      .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
-      .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
-      .bodyToFlux(ObjectResponse.class)
-      .map(resp -> new Technology(resp.getTechnologyId(), resp.getName(), resp.getDescription()));
+    return RequestDeadline.bound(Flux.defer(() -> {
+      List<ObjectResponse> received = new ArrayList<>();
+      return requestRetrier.retry(FIND_ALL, () -> requestHedger.hedge(FIND_ALL,
+          () -> concurrencyLimiter.execute(() -> client
+            .get()
+            .retrieve()
+            .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
+            .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
+            .bodyToFlux(ObjectResponse.class))))
+        .doOnNext(received::add)
+        .doOnComplete(() -> fallbackCache.putCatalog(received));
+    })).map(this::toTechnology);
   }
 
-  @CircuitBreaker(name = "deleteTechnologiesByCapacity")
+  @CircuitBreaker(name = "deleteTechnologiesByCapacity", fallbackMethod = "deleteTechnologiesByCapacityFallback")
+  @RateLimiter(name = "deleteTechnologiesByCapacity")
+  @Bulkhead(name = "deleteTechnologiesByCapacity")
   @Override
   public Mono<List<Long>> deleteTechnologiesByCapacity(Long capacityId) {
-    return client
-      .delete()
-      .uri("/capacity/" + capacityId)
-      .retrieve()
-      .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
-      .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
-      .bodyToMono(Long[].class)
+    return RequestDeadline.bound(requestRetrier.retry(DELETE_TECHNOLOGIES_BY_CAPACITY, concurrencyLimiter.execute(client
+        .delete()
+        .uri("/capacity/" + capacityId)
+        .retrieve()
+        .onStatus(HttpStatusCode::is4xxClientError, this::map4xx)
+        .onStatus(HttpStatusCode::is5xxServerError, this::map5xx)
+        .bodyToMono(Long[].class))))
       .map(technologyIds -> List.of(technologyIds));
   }
 
+  // Fallbacks only take over when a call is shed locally; business and transport errors still reach the caller as before
+  private Flux<Technology> findByCapacityIdFallback(Long capacityId, Throwable e) {
+    return fallbackCache.getByCapacity(capacityId)
+      .filter(cached -> isShed(e))
+      .map(cached -> servedDegraded(FIND_BY_CAPACITY_ID, cached))
+      .orElseGet(() -> Flux.error(e));
+  }
+
+  // A batch is only served from the cache when every capacity in it is cached
+  private Mono<Map<Long, List<Technology>>> findByCapacityIdsFallback(List<Long> capacityIds, Throwable e) {
+    if (!isShed(e) || !capacityIds.stream().allMatch(capacityId -> fallbackCache.getByCapacity(capacityId).isPresent())) {
+      return Mono.error(e);
+    }
+
+    meterRegistry.counter(FALLBACK_METRIC, OPERATION_TAG, FIND_BY_CAPACITY_IDS).increment();
+    Map<Long, List<Technology>> technologies = new LinkedHashMap<>();
+    capacityIds.forEach(capacityId -> technologies.put(capacityId, fallbackCache.getByCapacity(capacityId).orElseThrow()
+      .stream()
+      .map(this::toDegradedTechnology)
+      .toList()));
+    return Mono.just(technologies);
+  }
+
+  private Flux<Technology> findAllFallback(Throwable e) {
+    return fallbackCache.getCatalog()
+      .filter(cached -> isShed(e))
+      .map(cached -> servedDegraded(FIND_ALL, cached))
+      .orElseGet(() -> Flux.error(e));
+  }
+
+  // Completes empty instead of with the deleted ids, which tells the retry job the deletion is still pending
+  private Mono<List<Long>> deleteTechnologiesByCapacityFallback(Long capacityId, Throwable e) {
+    if (!isShed(e)) {
+      return Mono.error(e);
+    }
+    return deletionQueue.enqueue(capacityId)
+      .doOnSuccess(ignored -> meterRegistry.counter(FALLBACK_METRIC, OPERATION_TAG, DELETE_TECHNOLOGIES_BY_CAPACITY).increment())
+      .then(Mono.empty());
+  }
+
+  private Flux<Technology> servedDegraded(String operation, List<ObjectResponse> cached) {
+    meterRegistry.counter(FALLBACK_METRIC, OPERATION_TAG, operation).increment();
+    return Flux.fromIterable(cached)
+      .map(this::toDegradedTechnology);
+  }
+
+  private Technology toDegradedTechnology(ObjectResponse resp) {
+    Technology technology = toTechnology(resp);
+    technology.setDegraded(true);
+    return technology;
+  }
+
+  private static boolean isShed(Throwable e) {
+    return e instanceof CallNotPermittedException
+      || e instanceof BulkheadFullException
+      || e instanceof RequestNotPermitted;
+  }
+
+  private Technology toTechnology(ObjectResponse resp) {
+    return new Technology(resp.getTechnologyId(), resp.getName(), resp.getDescription());
+  }
+
   private Mono<? extends Throwable> map4xx(ClientResponse response) {
     return response.bodyToMono(ObjectResponse.class)
       .map(body -> new BussinessException(body.getDescription() != null ? body.getDescription() : "Client error"));
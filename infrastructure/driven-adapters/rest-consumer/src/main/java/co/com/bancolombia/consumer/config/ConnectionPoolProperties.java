@@ -0,0 +1,22 @@
+package co.com.bancolombia.consumer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "adapter.restconsumer.pool")
+public class ConnectionPoolProperties {
+  private String name = "technology-service";
+  private int maxConnections = 50;
+  private int pendingAcquireMaxCount = 200;
+  private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+  private Duration maxIdleTime = Duration.ofSeconds(30);
+  private Duration maxLifeTime = Duration.ofMinutes(5);
+  private Duration evictionInterval = Duration.ofSeconds(30);
+  private String leasingStrategy = "fifo";
+  private boolean metrics = true;
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.consumer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "adapter.restconsumer.hedging")
+public class HedgingProperties {
+  private boolean enabled = true;
+  private double percentile = 0.95;
+  private Duration initialDelay = Duration.ofMillis(500);
+  private Duration minDelay = Duration.ofMillis(50);
+  private Duration maxDelay = Duration.ofSeconds(2);
+  private int windowSize = 200;
+  private double budgetRatio = 0.05;
+  private int budgetMaxTokens = 10;
+}
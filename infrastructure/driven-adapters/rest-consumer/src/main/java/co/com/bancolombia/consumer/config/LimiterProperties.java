@@ -0,0 +1,19 @@
+package co.com.bancolombia.consumer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "adapter.restconsumer.limiter")
+public class LimiterProperties {
+  private boolean enabled = true;
+  private int initialLimit = 20;
+  private int minLimit = 4;
+  private int maxLimit = 100;
+  private double backoffRatio = 0.9;
+  private double rttTolerance = 2.0;
+  private double baselineSmoothing = 0.05;
+  private int maxPending = 1000;
+}
@@ -1,15 +1,26 @@
 package co.com.bancolombia.consumer.config;
 
+import co.com.bancolombia.model.deadline.RequestDeadline;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import static io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -17,27 +28,78 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 @Configuration
 public class RestConsumerConfig {
 
+  private static final String HTTPS_SCHEME = "https:";
+
+  private static final String LIFO_LEASING_STRATEGY = "lifo";
+
+  private static final String SMILE_CODEC = "smile";
+
+  private static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+  private static final MediaType SMILE_MEDIA_TYPE = MediaType.parseMediaType("application/x-jackson-smile");
+
+  private static final String SMILE_WITH_JSON_FALLBACK = SMILE_MEDIA_TYPE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
   private final String url;
 
   private final Integer timeout;
 
+  private final boolean http2;
+
+  private final String codec;
+
+  private final ConnectionPoolProperties pool;
+
   public RestConsumerConfig(@Value("${adapter.restconsumer.url}") String url,
-                            @Value("${adapter.restconsumer.timeout}") Integer timeout) {
+                            @Value("${adapter.restconsumer.timeout}") Integer timeout,
+                            @Value("${adapter.restconsumer.http2:false}") boolean http2,
+                            @Value("${adapter.restconsumer.codec:json}") String codec,
+                            ConnectionPoolProperties pool) {
     this.url = url;
     this.timeout = timeout;
+    this.http2 = http2;
+    this.codec = codec;
+    this.pool = pool;
   }
 
   @Bean
-  public WebClient getWebClient(WebClient.Builder builder) {
-    return builder
+  public WebClient getWebClient(WebClient.Builder builder, ConnectionProvider technologyConnectionProvider) {
+    builder
       .baseUrl(url)
       .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-      .clientConnector(getClientHttpConnector())
-      .build();
+      .filter(forwardDeadline())
+      .clientConnector(getClientHttpConnector(technologyConnectionProvider));
+
+    // Smile rather than CBOR because Spring's CBOR decoder cannot decode a Flux, which findAll streams.
+    // Request bodies stay JSON (they are a few bytes); responses are negotiated so a JSON-only server still works
+    if (SMILE_CODEC.equalsIgnoreCase(codec)) {
+      builder
+        .defaultHeader(HttpHeaders.ACCEPT, SMILE_WITH_JSON_FALLBACK)
+        .codecs(this::registerSmileCodec);
+    }
+    return builder.build();
   }
 
-  private ClientHttpConnector getClientHttpConnector() {
-    return new ReactorClientHttpConnector(HttpClient.create()
+  // With metrics enabled Reactor Netty publishes reactor.netty.connection.provider.* (active, idle, pending
+  // connections and pending acquire time) to the global Micrometer registry, which backs /actuator/prometheus
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider technologyConnectionProvider() {
+    ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+      .maxConnections(pool.getMaxConnections())
+      .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+      .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+      .maxIdleTime(pool.getMaxIdleTime())
+      .maxLifeTime(pool.getMaxLifeTime())
+      .evictInBackground(pool.getEvictionInterval())
+      .metrics(pool.isMetrics());
+
+    return LIFO_LEASING_STRATEGY.equalsIgnoreCase(pool.getLeasingStrategy())
+      ? builder.lifo().build()
+      : builder.fifo().build();
+  }
+
+  private ClientHttpConnector getClientHttpConnector(ConnectionProvider connectionProvider) {
+    return new ReactorClientHttpConnector(withProtocol(HttpClient.create(connectionProvider))
       .compress(true)
       .keepAlive(true)
       .option(CONNECT_TIMEOUT_MILLIS, timeout)
@@ -47,4 +109,31 @@ public class RestConsumerConfig {
       }));
   }
 
+  // The technology service gets what is left of our caller's budget, in milliseconds, so it can give up with us
+  private ExchangeFilterFunction forwardDeadline() {
+    return (request, next) -> Mono.deferContextual(context -> next.exchange(RequestDeadline.from(context)
+      .map(deadline -> ClientRequest.from(request)
+        .header(REQUEST_TIMEOUT_HEADER, String.valueOf(deadline.remaining().toMillis()))
+        .build())
+      .orElse(request)));
+  }
+
+  private void registerSmileCodec(ClientCodecConfigurer configurer) {
+    Jackson2ObjectMapperBuilder mapperBuilder = Jackson2ObjectMapperBuilder.smile();
+    configurer.customCodecs().register(new Jackson2SmileDecoder(mapperBuilder.build(), SMILE_MEDIA_TYPE));
+    configurer.customCodecs().register(new Jackson2SmileEncoder(mapperBuilder.build(), SMILE_MEDIA_TYPE));
+  }
+
+  private HttpClient withProtocol(HttpClient client) {
+    if (!http2) {
+      return client.protocol(HttpProtocol.HTTP11);
+    }
+
+    // HTTP/1.1 stays listed so ALPN (h2) or the upgrade request (h2c) can fall back when the server lacks HTTP/2
+    if (url.regionMatches(true, 0, HTTPS_SCHEME, 0, HTTPS_SCHEME.length())) {
+      return client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+    }
+    return client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+  }
+
 }
@@ -0,0 +1,21 @@
+package co.com.bancolombia.consumer.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "adapter.restconsumer.retry")
+public class RetryProperties {
+  private boolean enabled = true;
+  private int maxRetries = 2;
+  private Duration minBackoff = Duration.ofMillis(50);
+  private Duration maxBackoff = Duration.ofMillis(500);
+  private double jitter = 0.5;
+  private Duration deadline = Duration.ofSeconds(3);
+  private double budgetRatio = 0.1;
+  private int budgetMaxTokens = 10;
+}
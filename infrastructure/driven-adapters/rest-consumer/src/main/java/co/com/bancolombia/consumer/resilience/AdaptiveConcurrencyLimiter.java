@@ -0,0 +1,196 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.config.LimiterProperties;
+import co.com.bancolombia.consumer.exception.BussinessException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Global AIMD limit on in-flight calls to the technology service. The limit grows by one while round trips
+ * stay near the smoothed baseline and the limit is actually in use, and shrinks multiplicatively when a
+ * round trip exceeds the baseline by the configured tolerance or the call fails.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+  private static final String LIMIT_METRIC = "technology.limiter.limit";
+  private static final String IN_FLIGHT_METRIC = "technology.limiter.inflight";
+  private static final String PENDING_METRIC = "technology.limiter.pending";
+  private static final String REJECTED_METRIC = "technology.limiter.rejected";
+  private static final String LIMIT_EXCEEDED_MESSAGE = "Technology service concurrency limit exceeded";
+
+  private final LimiterProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Deque<Waiter> waiters = new ArrayDeque<>();
+  private double limit;
+  private int inFlight;
+  private double baselineNanos;
+
+  public AdaptiveConcurrencyLimiter(LimiterProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.limit = properties.getInitialLimit();
+    Gauge.builder(LIMIT_METRIC, this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_METRIC, this, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+    Gauge.builder(PENDING_METRIC, this, AdaptiveConcurrencyLimiter::getPending).register(meterRegistry);
+  }
+
+  public <T> Flux<T> execute(Supplier<Flux<T>> call) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+
+    return Flux.usingWhen(
+      acquire(),
+      permit -> call.get(),
+      permit -> Mono.fromRunnable(() -> release(permit, Outcome.SUCCESS)),
+      (permit, error) -> Mono.fromRunnable(() -> release(permit, error instanceof BussinessException ? Outcome.SUCCESS : Outcome.DROPPED)),
+      permit -> Mono.fromRunnable(() -> release(permit, Outcome.IGNORED)));
+  }
+
+  // Not built on the Flux variant: next() would cancel it on the value, and a cancelled call does not adjust the limit
+  public <T> Mono<T> execute(Mono<T> call) {
+    if (!properties.isEnabled()) {
+      return call;
+    }
+
+    return Mono.usingWhen(
+      acquire(),
+      permit -> call,
+      permit -> Mono.fromRunnable(() -> release(permit, Outcome.SUCCESS)),
+      (permit, error) -> Mono.fromRunnable(() -> release(permit, error instanceof BussinessException ? Outcome.SUCCESS : Outcome.DROPPED)),
+      permit -> Mono.fromRunnable(() -> release(permit, Outcome.IGNORED)));
+  }
+
+  public synchronized double getLimit() {
+    return limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public synchronized int getPending() {
+    return waiters.size();
+  }
+
+  private Mono<Permit> acquire() {
+    return Mono.create(sink -> {
+      Waiter waiter = new Waiter(sink);
+      boolean granted;
+      synchronized (this) {
+        granted = inFlight < (int) limit;
+        if (granted) {
+          inFlight++;
+        } else if (waiters.size() >= properties.getMaxPending()) {
+          meterRegistry.counter(REJECTED_METRIC).increment();
+          sink.error(new RuntimeException(LIMIT_EXCEEDED_MESSAGE));
+          return;
+        } else {
+          waiters.addLast(waiter);
+        }
+      }
+
+      if (granted) {
+        waiter.grant();
+      } else {
+        sink.onCancel(() -> cancel(waiter));
+      }
+    });
+  }
+
+  private void cancel(Waiter waiter) {
+    synchronized (this) {
+      if (waiters.remove(waiter)) {
+        return;
+      }
+    }
+    // Granted while the cancel was landing: whichever side sees the other hands the slot back
+    waiter.cancelled = true;
+    Permit permit = waiter.permit;
+    if (permit != null) {
+      release(permit, Outcome.IGNORED);
+    }
+  }
+
+  private void release(Permit permit, Outcome outcome) {
+    if (!permit.released.compareAndSet(false, true)) {
+      return;
+    }
+
+    List<Waiter> granted = new ArrayList<>();
+    synchronized (this) {
+      int inFlightAtStart = permit.inFlightAtStart;
+      inFlight--;
+      adjust(System.nanoTime() - permit.startNanos, inFlightAtStart, outcome);
+      while (!waiters.isEmpty() && inFlight < (int) limit) {
+        inFlight++;
+        granted.add(waiters.pollFirst());
+      }
+    }
+    granted.forEach(Waiter::grant);
+  }
+
+  private void adjust(long rttNanos, int inFlightAtStart, Outcome outcome) {
+    if (outcome == Outcome.IGNORED) {
+      return;
+    }
+
+    boolean overloaded = outcome == Outcome.DROPPED
+      || baselineNanos > 0 && rttNanos > baselineNanos * properties.getRttTolerance();
+
+    if (overloaded) {
+      limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+    } else if (inFlightAtStart * 2 >= (int) limit) {
+      limit = Math.min(properties.getMaxLimit(), limit + 1);
+    }
+
+    if (outcome == Outcome.SUCCESS) {
+      baselineNanos = baselineNanos == 0
+        ? rttNanos
+        : baselineNanos + properties.getBaselineSmoothing() * (rttNanos - baselineNanos);
+    }
+  }
+
+  private enum Outcome { SUCCESS, DROPPED, IGNORED }
+
+  private final class Permit {
+    private final long startNanos = System.nanoTime();
+    private final int inFlightAtStart;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(int inFlightAtStart) {
+      this.inFlightAtStart = inFlightAtStart;
+    }
+  }
+
+  private final class Waiter {
+    private final MonoSink<Permit> sink;
+    private volatile Permit permit;
+    private volatile boolean cancelled;
+
+    private Waiter(MonoSink<Permit> sink) {
+      this.sink = sink;
+    }
+
+    private void grant() {
+      Permit granted = new Permit(getInFlight());
+      permit = granted;
+      if (cancelled) {
+        release(granted, Outcome.IGNORED);
+      } else {
+        sink.success(granted);
+      }
+    }
+  }
+}
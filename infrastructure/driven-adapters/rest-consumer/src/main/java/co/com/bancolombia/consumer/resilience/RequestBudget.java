@@ -0,0 +1,36 @@
+package co.com.bancolombia.consumer.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that lets extra requests (hedges, retries) be at most a fixed ratio of regular calls.
+ * Every call deposits {@code ratio} tokens up to {@code maxTokens}; every extra request withdraws one.
+ */
+public class RequestBudget {
+  private static final long TOKEN_SCALE = 1000;
+
+  private final long depositPerCall;
+  private final long capacity;
+  private final AtomicLong balance;
+
+  public RequestBudget(double ratio, int maxTokens) {
+    this.depositPerCall = Math.round(ratio * TOKEN_SCALE);
+    this.capacity = maxTokens * TOKEN_SCALE;
+    this.balance = new AtomicLong(capacity);
+  }
+
+  public void onCall() {
+    balance.accumulateAndGet(depositPerCall, (current, deposit) -> Math.min(capacity, current + deposit));
+  }
+
+  public boolean tryAcquire() {
+    long current;
+    do {
+      current = balance.get();
+      if (current < TOKEN_SCALE) {
+        return false;
+      }
+    } while (!balance.compareAndSet(current, current - TOKEN_SCALE));
+    return true;
+  }
+}
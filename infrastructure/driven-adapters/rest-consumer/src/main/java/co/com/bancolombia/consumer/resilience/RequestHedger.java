@@ -0,0 +1,100 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.config.HedgingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second copy of an idempotent request once the first one is slower than the observed latency
+ * percentile, and keeps whichever answers first. Hedges are capped by a {@link RequestBudget}.
+ */
+@Component
+public class RequestHedger {
+  private static final String HEDGE_SENT_METRIC = "technology.hedge.sent";
+  private static final String HEDGE_WINS_METRIC = "technology.hedge.wins";
+  private static final String HEDGE_DELAY_METRIC = "technology.hedge.delay";
+  private static final String OPERATION_TAG = "operation";
+  private static final String WINNER_TAG = "winner";
+  private static final int RECOMPUTE_EVERY = 20;
+
+  private final HedgingProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final RequestBudget budget;
+  private final long[] latencies;
+  private long recorded;
+  private volatile long delayNanos;
+
+  public RequestHedger(HedgingProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.budget = new RequestBudget(properties.getBudgetRatio(), properties.getBudgetMaxTokens());
+    this.latencies = new long[properties.getWindowSize()];
+    this.delayNanos = properties.getInitialDelay().toNanos();
+    Gauge.builder(HEDGE_DELAY_METRIC, this, hedger -> hedger.delayNanos / 1_000_000d)
+      .baseUnit("milliseconds")
+      .register(meterRegistry);
+  }
+
+  public <T> Flux<T> hedge(String operation, Supplier<Flux<T>> request) {
+    if (!properties.isEnabled()) {
+      return request.get();
+    }
+
+    return Flux.defer(() -> {
+      budget.onCall();
+      long start = System.nanoTime();
+      AtomicBoolean hedged = new AtomicBoolean();
+      AtomicBoolean settled = new AtomicBoolean();
+
+      Flux<T> primary = request.get()
+        .doOnEach(signal -> onFirstSignal(operation, start, hedged, settled, "primary"));
+      Flux<T> secondary = Mono.delay(Duration.ofNanos(delayNanos))
+        .flatMapMany(tick -> {
+          if (!budget.tryAcquire()) {
+            return Flux.never();
+          }
+          hedged.set(true);
+          meterRegistry.counter(HEDGE_SENT_METRIC, OPERATION_TAG, operation).increment();
+          return request.get()
+            .doOnEach(signal -> onFirstSignal(operation, start, hedged, settled, "hedge"));
+        });
+
+      return Flux.firstWithSignal(primary, secondary);
+    });
+  }
+
+  Duration currentDelay() {
+    return Duration.ofNanos(delayNanos);
+  }
+
+  private void onFirstSignal(String operation, long start, AtomicBoolean hedged, AtomicBoolean settled, String winner) {
+    if (!settled.compareAndSet(false, true)) {
+      return;
+    }
+
+    record(System.nanoTime() - start);
+    if (hedged.get()) {
+      meterRegistry.counter(HEDGE_WINS_METRIC, OPERATION_TAG, operation, WINNER_TAG, winner).increment();
+    }
+  }
+
+  private synchronized void record(long latencyNanos) {
+    latencies[(int) (recorded % latencies.length)] = latencyNanos;
+    recorded++;
+
+    if (recorded % RECOMPUTE_EVERY == 0) {
+      long[] window = Arrays.copyOf(latencies, (int) Math.min(recorded, latencies.length));
+      Arrays.sort(window);
+      long percentile = window[(int) Math.min(window.length - 1, Math.ceil(properties.getPercentile() * window.length) - 1)];
+      delayNanos = Math.max(properties.getMinDelay().toNanos(), Math.min(properties.getMaxDelay().toNanos(), percentile));
+    }
+  }
+}
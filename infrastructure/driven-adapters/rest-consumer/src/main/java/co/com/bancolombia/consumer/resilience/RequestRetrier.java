@@ -0,0 +1,76 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.config.RetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Retries idempotent calls that failed on the wire with exponential jittered backoff, inside an overall deadline.
+ * Retries are capped by a {@link RequestBudget} so they cannot multiply load on a service that is already failing,
+ * and a stream that already emitted is never retried, since that would replay its elements.
+ */
+@Component
+public class RequestRetrier {
+  private static final String RETRY_METRIC = "technology.retry";
+  private static final String OPERATION_TAG = "operation";
+  private static final String OUTCOME_TAG = "outcome";
+
+  private final RetryProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final RequestBudget budget;
+
+  public RequestRetrier(RetryProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.budget = new RequestBudget(properties.getBudgetRatio(), properties.getBudgetMaxTokens());
+  }
+
+  public <T> Flux<T> retry(String operation, Supplier<Flux<T>> request) {
+    if (!properties.isEnabled()) {
+      return request.get();
+    }
+
+    return Flux.defer(() -> {
+      budget.onCall();
+      long deadlineAt = System.nanoTime() + properties.getDeadline().toNanos();
+      AtomicBoolean emitted = new AtomicBoolean();
+
+      return Flux.defer(request)
+        .doOnNext(item -> emitted.set(true))
+        .retryWhen(Retry.backoff(properties.getMaxRetries(), properties.getMinBackoff())
+          .maxBackoff(properties.getMaxBackoff())
+          .jitter(properties.getJitter())
+          .filter(error -> !emitted.get() && isTransient(error) && tryAcquire(operation))
+          .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+        .timeout(Mono.delay(properties.getDeadline()), item -> Mono.delay(remaining(deadlineAt)));
+    });
+  }
+
+  public <T> Mono<T> retry(String operation, Mono<T> request) {
+    return retry(operation, request::flux).next();
+  }
+
+  private boolean tryAcquire(String operation) {
+    boolean acquired = budget.tryAcquire();
+    meterRegistry.counter(RETRY_METRIC, OPERATION_TAG, operation, OUTCOME_TAG, acquired ? "retried" : "budget_exhausted")
+      .increment();
+    return acquired;
+  }
+
+  private static boolean isTransient(Throwable error) {
+    // Only failures before a response arrived (resets, refused connections, pool timeouts) are safe to repeat
+    return error instanceof WebClientRequestException;
+  }
+
+  private static Duration remaining(long deadlineAt) {
+    return Duration.ofNanos(Math.max(0, deadlineAt - System.nanoTime()));
+  }
+}
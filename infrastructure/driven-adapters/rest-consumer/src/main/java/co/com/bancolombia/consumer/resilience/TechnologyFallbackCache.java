@@ -0,0 +1,46 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.ObjectResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Last known good answers from the technology service, kept so reads can still be served while its circuit is open.
+ * Technologies per capacity are bounded by an LRU; the catalog is only replaced by a fully read listing.
+ */
+@Component
+public class TechnologyFallbackCache {
+  private final Map<Long, List<ObjectResponse>> byCapacity;
+  private volatile List<ObjectResponse> catalog;
+
+  public TechnologyFallbackCache(@Value("${adapter.restconsumer.fallback-cache.max-capacities:10000}") int maxCapacities) {
+    this.byCapacity = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, List<ObjectResponse>> eldest) {
+        return size() > maxCapacities;
+      }
+    });
+  }
+
+  public void putByCapacity(Long capacityId, List<ObjectResponse> technologies) {
+    byCapacity.put(capacityId, List.copyOf(technologies));
+  }
+
+  public Optional<List<ObjectResponse>> getByCapacity(Long capacityId) {
+    return Optional.ofNullable(byCapacity.get(capacityId));
+  }
+
+  public void putCatalog(List<ObjectResponse> technologies) {
+    catalog = List.copyOf(technologies);
+  }
+
+  public Optional<List<ObjectResponse>> getCatalog() {
+    return Optional.ofNullable(catalog);
+  }
+}
@@ -0,0 +1,158 @@
+package co.com.bancolombia.consumer;
+
+import co.com.bancolombia.consumer.config.HedgingProperties;
+import co.com.bancolombia.consumer.config.LimiterProperties;
+import co.com.bancolombia.consumer.config.RetryProperties;
+import co.com.bancolombia.consumer.resilience.AdaptiveConcurrencyLimiter;
+import co.com.bancolombia.consumer.resilience.RequestHedger;
+import co.com.bancolombia.consumer.resilience.RequestRetrier;
+import co.com.bancolombia.consumer.resilience.TechnologyFallbackCache;
+import co.com.bancolombia.model.capacity.Technology;
+import co.com.bancolombia.model.capacity.TechnologyConcurrency;
+import co.com.bancolombia.model.capacity.gateway.TechnologyDeletionQueueGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RestConsumer Tests")
+class RestConsumerTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private MockWebServer server;
+  private MeterRegistry meterRegistry;
+  private RestConsumer restConsumer;
+  private final List<String> requestedPaths = Collections.synchronizedList(new ArrayList<>());
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+    meterRegistry = new SimpleMeterRegistry();
+    HedgingProperties hedging = new HedgingProperties();
+    hedging.setEnabled(false);
+    // The first exchange also warms up the HTTP client, which can take longer than the default deadline
+    RetryProperties retry = new RetryProperties();
+    retry.setDeadline(Duration.ofSeconds(30));
+    String baseUrl = server.url("/").toString();
+    restConsumer = new RestConsumer(
+      WebClient.builder().baseUrl(baseUrl.substring(0, baseUrl.length() - 1)).build(),
+      new RequestHedger(hedging, meterRegistry),
+      new RequestRetrier(retry, meterRegistry),
+      new AdaptiveConcurrencyLimiter(new LimiterProperties(), meterRegistry),
+      new TechnologyFallbackCache(100),
+      mock(TechnologyDeletionQueueGateway.class),
+      meterRegistry,
+      new TechnologyConcurrency(20, 4));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should read a batch with GET /capacity?ids= and group the technologies by capacity")
+  void shouldReadBatchFromCapacityIdsEndpoint() {
+    // Arrange
+    server.setDispatcher(dispatcher(true));
+
+    // Act & Assert
+    StepVerifier.create(restConsumer.findByCapacityIds(List.of(1L, 2L)))
+      .assertNext(technologies -> {
+        assertThat(technologies.keySet()).containsExactly(1L, 2L);
+        assertThat(technologies.get(1L)).extracting(technology -> technology.getName().getValue()).containsExactly("Java");
+        assertThat(technologies.get(2L)).extracting(technology -> technology.getName().getValue()).containsExactly("Spring");
+      })
+      .verifyComplete();
+
+    assertThat(requestedPaths).containsExactly("/capacity?ids=1,2");
+  }
+
+  @Test
+  @DisplayName("Should drop technologies of capacities that were not requested in the batch")
+  void shouldDropCapacitiesThatWereNotRequested() {
+    // Arrange
+    server.setDispatcher(dispatcher(true));
+
+    // Act & Assert
+    StepVerifier.create(restConsumer.findByCapacityIds(List.of(1L)))
+      .assertNext(technologies -> {
+        assertThat(technologies.keySet()).containsExactly(1L);
+        assertThat(technologies.get(1L)).extracting(technology -> technology.getName().getValue()).containsExactly("Java");
+      })
+      .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should fall back to one GET /capacity/{id} per capacity when the batch endpoint answers 404")
+  void shouldFallBackToPerIdReadsWhenBatchEndpointIsMissing() {
+    // Arrange
+    server.setDispatcher(dispatcher(false));
+
+    // Act & Assert
+    StepVerifier.create(restConsumer.findByCapacityIds(List.of(1L, 2L)))
+      .assertNext(technologies -> {
+        assertThat(technologies.keySet()).containsExactly(1L, 2L);
+        assertThat(technologies.get(1L)).extracting(Technology::isDegraded).containsExactly(false);
+        assertThat(technologies.get(2L)).extracting(technology -> technology.getName().getValue()).containsExactly("Spring");
+      })
+      .verifyComplete();
+
+    assertThat(requestedPaths).first().isEqualTo("/capacity?ids=1,2");
+    assertThat(requestedPaths).containsExactlyInAnyOrder("/capacity?ids=1,2", "/capacity/1", "/capacity/2");
+    assertThat(meterRegistry.counter("technology.batch.unsupported").count()).isEqualTo(1.0);
+  }
+
+  private Dispatcher dispatcher(boolean batchSupported) {
+    Map<String, List<ObjectResponse>> byPath = Map.of(
+      "/capacity/1", List.of(new ObjectResponse(10L, "Java", "Java 21 LTS", 1L)),
+      "/capacity/2", List.of(new ObjectResponse(20L, "Spring", "Spring Boot", 2L)),
+      "/capacity?ids=1,2", List.of(
+        new ObjectResponse(10L, "Java", "Java 21 LTS", 1L),
+        new ObjectResponse(20L, "Spring", "Spring Boot", 2L)),
+      "/capacity?ids=1", List.of(
+        new ObjectResponse(10L, "Java", "Java 21 LTS", 1L),
+        new ObjectResponse(30L, "Go", "Go lang", 3L)));
+
+    return new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        requestedPaths.add(request.getPath());
+        List<ObjectResponse> body = byPath.get(request.getPath());
+        if (body == null || (!batchSupported && request.getPath().contains("?ids="))) {
+          return new MockResponse().setResponseCode(404);
+        }
+        try {
+          return new MockResponse()
+            .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .setBody(OBJECT_MAPPER.writeValueAsString(body));
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    };
+  }
+}
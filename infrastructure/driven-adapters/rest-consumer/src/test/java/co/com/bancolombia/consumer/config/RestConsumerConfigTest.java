@@ -0,0 +1,97 @@
+package co.com.bancolombia.consumer.config;
+
+import co.com.bancolombia.consumer.ObjectResponse;
+import co.com.bancolombia.model.deadline.RequestDeadline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RestConsumerConfig Tests")
+class RestConsumerConfigTest {
+
+  private MockWebServer server;
+  private ConnectionProvider connectionProvider;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    if (connectionProvider != null) {
+      connectionProvider.dispose();
+    }
+    server.shutdown();
+  }
+
+  @Test
+  @DisplayName("Should negotiate and decode Smile responses when the smile codec is configured")
+  void shouldDecodeSmileResponses() throws Exception {
+    byte[] body = new ObjectMapper(new SmileFactory()).writeValueAsBytes(List.of(
+      new ObjectResponse(1L, "Java", "Java 21 LTS", 7L),
+      new ObjectResponse(2L, "Spring", "Spring Boot", 7L)));
+    server.enqueue(new MockResponse()
+      .setHeader(HttpHeaders.CONTENT_TYPE, "application/x-jackson-smile")
+      .setBody(new Buffer().write(body)));
+
+    StepVerifier.create(webClient("smile").get().retrieve().bodyToFlux(ObjectResponse.class).map(ObjectResponse::getName))
+      .expectNext("Java", "Spring")
+      .verifyComplete();
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getHeader(HttpHeaders.ACCEPT)).startsWith("application/x-jackson-smile");
+  }
+
+  @Test
+  @DisplayName("Should fall back to JSON when the server ignores the Smile preference")
+  void shouldFallBackToJson() {
+    server.enqueue(new MockResponse()
+      .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+      .setBody("[{\"technologyId\":1,\"name\":\"Java\",\"description\":\"Java 21 LTS\"}]"));
+
+    StepVerifier.create(webClient("smile").get().retrieve().bodyToFlux(ObjectResponse.class).map(ObjectResponse::getName))
+      .expectNext("Java")
+      .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should forward the remaining request budget to the technology service")
+  void shouldForwardRemainingRequestBudget() throws Exception {
+    server.enqueue(new MockResponse()
+      .setHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+      .setBody("[]"));
+
+    StepVerifier.create(webClient("json").get().retrieve().bodyToFlux(ObjectResponse.class)
+        .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, RequestDeadline.after(Duration.ofSeconds(2)))))
+      .verifyComplete();
+
+    long forwarded = Long.parseLong(server.takeRequest().getHeader("X-Request-Timeout"));
+    assertThat(forwarded).isBetween(1L, 2000L);
+  }
+
+  private WebClient webClient(String codec) {
+    RestConsumerConfig config = new RestConsumerConfig(server.url("/").toString(), 2000, false, codec,
+      new ConnectionPoolProperties());
+    connectionProvider = config.technologyConnectionProvider();
+    return config.getWebClient(WebClient.builder(), connectionProvider);
+  }
+}
@@ -0,0 +1,124 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.config.LimiterProperties;
+import co.com.bancolombia.consumer.exception.BussinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+  private LimiterProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    properties = new LimiterProperties();
+    properties.setInitialLimit(2);
+    properties.setMinLimit(1);
+    properties.setMaxLimit(3);
+    properties.setMaxPending(1);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @DisplayName("Should queue calls above the limit and run them as slots free up")
+  void shouldQueueCallsAboveLimit() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    List<Sinks.One<String>> calls = new ArrayList<>();
+    List<String> results = new ArrayList<>();
+
+    for (int i = 0; i < 3; i++) {
+      limiter.execute(Mono.defer(() -> {
+        Sinks.One<String> call = Sinks.one();
+        calls.add(call);
+        return call.asMono();
+      })).subscribe(results::add);
+    }
+
+    assertThat(calls).hasSize(2);
+    assertThat(limiter.getInFlight()).isEqualTo(2);
+    assertThat(limiter.getPending()).isEqualTo(1);
+
+    calls.get(0).tryEmitValue("first");
+
+    assertThat(calls).hasSize(3);
+    assertThat(limiter.getPending()).isZero();
+    assertThat(results).containsExactly("first");
+  }
+
+  @Test
+  @DisplayName("Should reject calls when the pending queue is full")
+  void shouldRejectWhenPendingQueueIsFull() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    List<Disposable> inFlight = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      inFlight.add(limiter.execute(Flux::<String>never).subscribe());
+    }
+
+    StepVerifier.create(limiter.execute(Flux::<String>never))
+      .expectErrorMessage("Technology service concurrency limit exceeded")
+      .verify();
+
+    assertThat(meterRegistry.get("technology.limiter.rejected").counter().count()).isEqualTo(1);
+    inFlight.forEach(Disposable::dispose);
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getPending()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should shrink the limit when calls fail and grow it while calls succeed at the limit")
+  void shouldAdaptLimitToOutcomes() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+
+    StepVerifier.create(limiter.execute(Mono.error(new RuntimeException("External service error"))))
+      .expectError()
+      .verify();
+    assertThat(limiter.getLimit()).isLessThan(2);
+
+    StepVerifier.create(limiter.execute(Mono.just("ok")))
+      .expectNext("ok")
+      .verifyComplete();
+    assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should grow the limit and set the baseline from asynchronous Mono calls")
+  void shouldLearnFromAsynchronousMonoCalls() {
+    properties.setMaxLimit(10);
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    Mono<String> call = Mono.delay(Duration.ofMillis(20)).thenReturn("ok");
+
+    StepVerifier.create(Flux.merge(limiter.execute(call), limiter.execute(call)))
+      .expectNext("ok", "ok")
+      .verifyComplete();
+
+    assertThat(limiter.getLimit()).isGreaterThan(2);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should not treat business errors as overload")
+  void shouldNotShrinkOnBusinessErrors() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+
+    StepVerifier.create(limiter.execute(Mono.error(new BussinessException("Client error"))))
+      .expectError(BussinessException.class)
+      .verify();
+
+    assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(2);
+  }
+}
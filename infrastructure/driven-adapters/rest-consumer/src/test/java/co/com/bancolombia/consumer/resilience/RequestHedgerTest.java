@@ -0,0 +1,114 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.config.HedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestHedger Tests")
+class RequestHedgerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private HedgingProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new HedgingProperties();
+    properties.setInitialDelay(Duration.ofMillis(100));
+  }
+
+  @Test
+  @DisplayName("Should not hedge when the primary answers before the delay")
+  void shouldNotHedgeWhenPrimaryIsFast() {
+    RequestHedger hedger = new RequestHedger(properties, meterRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.withVirtualTime(() -> hedger.hedge("findAll", () -> {
+        calls.incrementAndGet();
+        return Flux.just("a", "b").delayElements(Duration.ofMillis(10));
+      }))
+      .thenAwait(Duration.ofMillis(50))
+      .expectNext("a", "b")
+      .verifyComplete();
+
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(meterRegistry.find("technology.hedge.sent").counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should use the hedge when the primary is slower than the delay")
+  void shouldUseHedgeWhenPrimaryIsSlow() {
+    RequestHedger hedger = new RequestHedger(properties, meterRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.withVirtualTime(() -> hedger.hedge("findAll", () -> calls.incrementAndGet() == 1
+        ? Flux.just("slow").delaySubscription(Duration.ofSeconds(5))
+        : Flux.just("fast")))
+      .thenAwait(Duration.ofMillis(100))
+      .expectNext("fast")
+      .verifyComplete();
+
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(meterRegistry.get("technology.hedge.sent").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("technology.hedge.wins").tag("winner", "hedge").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should wait for the primary when the hedge budget is exhausted")
+  void shouldWaitForPrimaryWhenBudgetIsExhausted() {
+    properties.setBudgetRatio(0);
+    properties.setBudgetMaxTokens(0);
+    RequestHedger hedger = new RequestHedger(properties, meterRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.withVirtualTime(() -> hedger.hedge("findAll", () -> {
+        calls.incrementAndGet();
+        return Flux.just("slow").delaySubscription(Duration.ofSeconds(1));
+      }))
+      .thenAwait(Duration.ofSeconds(1))
+      .expectNext("slow")
+      .verifyComplete();
+
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should derive the hedge delay from the observed latency percentile")
+  void shouldDeriveDelayFromObservedPercentile() {
+    properties.setWindowSize(20);
+    properties.setMinDelay(Duration.ofMillis(1));
+    RequestHedger hedger = new RequestHedger(properties, meterRegistry);
+
+    for (int i = 0; i < 20; i++) {
+      StepVerifier.withVirtualTime(() -> hedger.hedge("findByCapacityId",
+          () -> Flux.just("ok").delaySubscription(Duration.ofMillis(20))))
+        .thenAwait(Duration.ofMillis(20))
+        .expectNext("ok")
+        .verifyComplete();
+    }
+
+    assertThat(hedger.currentDelay()).isLessThan(Duration.ofMillis(100));
+  }
+
+  @Test
+  @DisplayName("Should let extra requests be only a ratio of calls")
+  void shouldCapExtraRequestsByRatio() {
+    RequestBudget budget = new RequestBudget(0.5, 1);
+
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isFalse();
+    budget.onCall();
+    assertThat(budget.tryAcquire()).isFalse();
+    budget.onCall();
+    assertThat(budget.tryAcquire()).isTrue();
+  }
+}
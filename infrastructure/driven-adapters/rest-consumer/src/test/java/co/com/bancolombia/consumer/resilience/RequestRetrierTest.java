@@ -0,0 +1,123 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.config.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestRetrier Tests")
+class RequestRetrierTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private RetryProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new RetryProperties();
+  }
+
+  @Test
+  @DisplayName("Should retry a connection failure and return the later answer")
+  void shouldRetryConnectionFailure() {
+    RequestRetrier retrier = new RequestRetrier(properties, meterRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.withVirtualTime(() -> retrier.retry("findAll", () -> calls.incrementAndGet() == 1
+        ? Flux.<String>error(connectionReset())
+        : Flux.just("a", "b")))
+      .thenAwait(Duration.ofSeconds(1))
+      .expectNext("a", "b")
+      .verifyComplete();
+
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(meterRegistry.counter("technology.retry", "operation", "findAll", "outcome", "retried").count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not retry errors that came back from the service")
+  void shouldNotRetryServiceErrors() {
+    RequestRetrier retrier = new RequestRetrier(properties, meterRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.create(retrier.retry("findAll", () -> {
+        calls.incrementAndGet();
+        return Flux.<String>error(new RuntimeException("External service error: boom"));
+      }))
+      .expectErrorMessage("External service error: boom")
+      .verify();
+
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not retry a stream that already emitted")
+  void shouldNotRetryStreamThatAlreadyEmitted() {
+    RequestRetrier retrier = new RequestRetrier(properties, meterRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.create(retrier.retry("findAll", () -> {
+        calls.incrementAndGet();
+        return Flux.concat(Flux.just("a"), Flux.error(connectionReset()));
+      }))
+      .expectNext("a")
+      .expectError(WebClientRequestException.class)
+      .verify();
+
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should stop retrying once the budget is spent")
+  void shouldStopRetryingOnceBudgetIsSpent() {
+    properties.setBudgetRatio(0);
+    properties.setBudgetMaxTokens(1);
+    RequestRetrier retrier = new RequestRetrier(properties, meterRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    StepVerifier.withVirtualTime(() -> retrier.retry("findAll", () -> {
+        calls.incrementAndGet();
+        return Flux.<String>error(connectionReset());
+      }))
+      .thenAwait(Duration.ofSeconds(1))
+      .expectError(WebClientRequestException.class)
+      .verify();
+
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(meterRegistry.counter("technology.retry", "operation", "findAll", "outcome", "budget_exhausted").count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should fail with a timeout when the deadline passes")
+  void shouldFailWhenDeadlinePasses() {
+    properties.setDeadline(Duration.ofMillis(200));
+    RequestRetrier retrier = new RequestRetrier(properties, meterRegistry);
+
+    StepVerifier.withVirtualTime(() -> retrier.retry("findAll",
+        () -> Flux.just("late").delaySubscription(Duration.ofSeconds(5))))
+      .thenAwait(Duration.ofMillis(200))
+      .expectError(TimeoutException.class)
+      .verify();
+  }
+
+  private static WebClientRequestException connectionReset() {
+    return new WebClientRequestException(new IOException("Connection reset"), HttpMethod.GET,
+      URI.create("http://technology/capacity/1"), new HttpHeaders());
+  }
+}
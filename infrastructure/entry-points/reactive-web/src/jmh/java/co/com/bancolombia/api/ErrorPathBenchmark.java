@@ -0,0 +1,68 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.response.ErrorBodyCache;
+import co.com.bancolombia.api.response.ErrorResponse;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one expected business failure: raising the exception from a reactive-depth stack and producing the
+ * JSON error body. The legacy variants reproduce the previous behaviour (stack trace plus a new serialization).
+ * Run with {@code gradle :reactive-web:jmh -Pjmh.includes=ErrorPath}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+  private static final String ERROR = "BUSINESS_ERROR";
+  private static final String MESSAGE = "The capacity name cannot be duplicated.";
+
+  @Param({"64"})
+  private int stackDepth;
+
+  private ObjectMapper objectMapper;
+  private ErrorBodyCache errorBodies;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    errorBodies = new ErrorBodyCache(Map.of(ERROR, List.of(MESSAGE)));
+  }
+
+  @Benchmark
+  public byte[] legacyErrorPath() throws Exception {
+    RuntimeException error = raise(stackDepth, true);
+    return objectMapper.writeValueAsBytes(new ErrorResponse(ERROR, error.getMessage()));
+  }
+
+  @Benchmark
+  public byte[] leanErrorPath() {
+    RuntimeException error = raise(stackDepth, false);
+    return errorBodies.body(ERROR, error.getMessage());
+  }
+
+  @Benchmark
+  public RuntimeException legacyException() {
+    return raise(stackDepth, true);
+  }
+
+  @Benchmark
+  public RuntimeException stacklessException() {
+    return raise(stackDepth, false);
+  }
+
+  private static RuntimeException raise(int depth, boolean withStackTrace) {
+    if (depth > 0) {
+      return raise(depth - 1, withStackTrace);
+    }
+    return withStackTrace ? new RuntimeException(MESSAGE) : new BussinessException(MESSAGE);
+  }
+}
@@ -0,0 +1,55 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.model.capacity.Capacity;
+import co.com.bancolombia.model.capacity.CapacitySummary;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one stored capacity into its response. The legacy variant reproduces the previous read path
+ * (entity, then {@link Capacity} with its value objects, then the response); the summary variant is what the
+ * row mapper now does. Each intermediate goes to the blackhole, as it is emitted downstream in the real pipeline
+ * and cannot be scalar-replaced. Run with {@code gradle :reactive-web:jmh -Pjmh.includes=ReadModel}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadModelBenchmark {
+  private Long id;
+  private String name;
+  private String description;
+
+  @Setup
+  public void setUp() {
+    id = 1_000L;
+    name = "Payments Squad";
+    description = "Handles all payment features";
+  }
+
+  @Benchmark
+  public CapacityResponse legacyReadPath(Blackhole blackhole) {
+    LegacyEntity entity = new LegacyEntity(id, name, description);
+    blackhole.consume(entity);
+    Capacity capacity = new Capacity(entity.id(), entity.name(), entity.description());
+    blackhole.consume(capacity);
+    return new CapacityResponse(capacity.getId().getValue(), capacity.getName().getValue(),
+      capacity.getDescription().getValue(), null);
+  }
+
+  @Benchmark
+  public CapacityResponse summaryReadPath(Blackhole blackhole) {
+    CapacitySummary capacity = new CapacitySummary(id, name, description);
+    blackhole.consume(capacity);
+    return new CapacityResponse(capacity.capacityId(), capacity.name(), capacity.description(), null);
+  }
+
+  // Stand-in for the Spring Data entity the rows used to be read into
+  private record LegacyEntity(Long id, String name, String description) {
+  }
+}
@@ -0,0 +1,86 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.codec.CapacityResponseEncoder;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.FilterResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Encoding one page of capacities, each with three technologies, into pooled Netty buffers with the default
+ * Jackson encoder and with {@link CapacityResponseEncoder}. Run with
+ * {@code gradle :reactive-web:jmh -Pjmh.includes=ResponseEncoding}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseEncodingBenchmark {
+  private static final ResolvableType PAGE_TYPE = ResolvableType.forClass(GetCapacitiesResponse.class);
+  private static final ResolvableType LIST_TYPE = ResolvableType.forClass(List.class);
+
+  @Param({"10", "100"})
+  private int capacities;
+
+  private NettyDataBufferFactory bufferFactory;
+  private Jackson2JsonEncoder jacksonEncoder;
+  private CapacityResponseEncoder capacityEncoder;
+  private GetCapacitiesResponse page;
+  private List<CapacityResponse> bootcampCapacities;
+
+  @Setup
+  public void setUp() {
+    bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    jacksonEncoder = new Jackson2JsonEncoder(Jackson2ObjectMapperBuilder.json().build());
+    capacityEncoder = new CapacityResponseEncoder(jacksonEncoder);
+    bootcampCapacities = LongStream.range(0, capacities)
+      .mapToObj(id -> new CapacityResponse(id, "Capacity " + id, "Handles the features of team " + id, List.of(
+        new TechnologyResponse(id * 3, "Java", "Java 21 LTS"),
+        new TechnologyResponse(id * 3 + 1, "Spring Boot", "Spring Boot Framework"),
+        new TechnologyResponse(id * 3 + 2, "PostgreSQL", "Relational database")), false))
+      .toList();
+    page = new GetCapacitiesResponse(bootcampCapacities, new FilterResponse(0, capacities, "name", "asc"),
+      capacities, 1);
+  }
+
+  @Benchmark
+  public int jacksonPage() {
+    return release(jacksonEncoder.encodeValue(page, bufferFactory, PAGE_TYPE, MediaType.APPLICATION_JSON, null));
+  }
+
+  @Benchmark
+  public int writerPage() {
+    return release(capacityEncoder.encodeValue(page, bufferFactory, PAGE_TYPE, MediaType.APPLICATION_JSON, null));
+  }
+
+  @Benchmark
+  public int jacksonList() {
+    return release(jacksonEncoder.encodeValue(bootcampCapacities, bufferFactory, LIST_TYPE, MediaType.APPLICATION_JSON, null));
+  }
+
+  @Benchmark
+  public int writerList() {
+    return release(capacityEncoder.encodeValue(bootcampCapacities, bufferFactory, LIST_TYPE, MediaType.APPLICATION_JSON, null));
+  }
+
+  private static int release(DataBuffer buffer) {
+    int written = buffer.readableByteCount();
+    DataBufferUtils.release(buffer);
+    return written;
+  }
+}
@@ -0,0 +1,74 @@
+package co.com.bancolombia.api.validation;
+
+import co.com.bancolombia.api.request.AssociateCapacityWithBootcampRequest;
+import co.com.bancolombia.api.request.CreateCapacityRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the reflective Jakarta validator against {@link RequestValidator} on the POST payloads.
+ * Run with {@code gradle :reactive-web:jmh -Pjmh.includes=RequestValidation}; gc.alloc.rate.norm is bytes per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestValidationBenchmark {
+  private Validator validator;
+  private CreateCapacityRequest createRequest;
+  private AssociateCapacityWithBootcampRequest associateRequest;
+  private CreateCapacityRequest invalidCreateRequest;
+
+  @Setup
+  public void setUp() {
+    validator = Validation.buildDefaultValidatorFactory().getValidator();
+    createRequest = new CreateCapacityRequest("Backend", "Backend capacity", List.of("Java", "Spring", "PostgreSQL"));
+    associateRequest = new AssociateCapacityWithBootcampRequest(1L, 2L);
+    invalidCreateRequest = new CreateCapacityRequest(" ", "Backend capacity", null);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<CreateCapacityRequest>> jakartaCreate() {
+    return validator.validate(createRequest);
+  }
+
+  @Benchmark
+  public CreateCapacityRequest precompiledCreate() {
+    RequestValidator.validate(createRequest);
+    return createRequest;
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<AssociateCapacityWithBootcampRequest>> jakartaAssociate() {
+    return validator.validate(associateRequest);
+  }
+
+  @Benchmark
+  public AssociateCapacityWithBootcampRequest precompiledAssociate() {
+    RequestValidator.validate(associateRequest);
+    return associateRequest;
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<CreateCapacityRequest>> jakartaInvalidCreate() {
+    return validator.validate(invalidCreateRequest);
+  }
+
+  @Benchmark
+  public RequestValidationException precompiledInvalidCreate() {
+    try {
+      RequestValidator.validate(invalidCreateRequest);
+      return null;
+    } catch (RequestValidationException e) {
+      return e;
+    }
+  }
+}
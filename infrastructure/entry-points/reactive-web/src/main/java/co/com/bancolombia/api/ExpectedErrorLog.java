@@ -0,0 +1,59 @@
+package co.com.bancolombia.api;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Warn log for expected failures that writes each message at most once per interval, with the number of
+ * repeats dropped since the previous line. Past {@code maxTrackedMessages} distinct messages it logs every time.
+ */
+class ExpectedErrorLog {
+  private final Logger log;
+  private final long intervalNanos;
+  private final int maxTrackedMessages;
+  private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+  ExpectedErrorLog(Logger log, Duration interval, int maxTrackedMessages) {
+    this.log = log;
+    this.intervalNanos = interval.toNanos();
+    this.maxTrackedMessages = maxTrackedMessages;
+  }
+
+  void warn(String kind, String message) {
+    String key = message == null ? "" : message;
+    Window window = windows.get(key);
+    if (window == null) {
+      if (windows.size() >= maxTrackedMessages) {
+        log.warn("{} error: {}", kind, message);
+        return;
+      }
+      window = windows.computeIfAbsent(key, k -> new Window(System.nanoTime()));
+    }
+
+    long now = System.nanoTime();
+    long nextLogAt = window.nextLogAt.get();
+    if (now - nextLogAt >= 0 && window.nextLogAt.compareAndSet(nextLogAt, now + intervalNanos)) {
+      long dropped = window.dropped.sumThenReset();
+      if (dropped == 0) {
+        log.warn("{} error: {}", kind, message);
+      } else {
+        log.warn("{} error: {} ({} more since last logged)", kind, message, dropped);
+      }
+    } else {
+      window.dropped.increment();
+    }
+  }
+
+  private static final class Window {
+    private final AtomicLong nextLogAt;
+    private final LongAdder dropped = new LongAdder();
+
+    private Window(long nextLogAt) {
+      this.nextLogAt = new AtomicLong(nextLogAt);
+    }
+  }
+}
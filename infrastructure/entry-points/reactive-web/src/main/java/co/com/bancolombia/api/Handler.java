@@ -2,27 +2,36 @@ package co.com.bancolombia.api;
 
 
 import co.com.bancolombia.api.request.AssociateCapacityWithBootcampRequest;
+import co.com.bancolombia.api.response.ErrorBodyCache;
 import co.com.bancolombia.api.response.ErrorResponse;
+import co.com.bancolombia.api.validation.RequestValidationException;
+import co.com.bancolombia.api.validation.RequestValidator;
 import co.com.bancolombia.model.capacity.exception.DomainException;
 import co.com.bancolombia.usecase.*;
 import co.com.bancolombia.api.request.CreateCapacityRequest;
 import co.com.bancolombia.usecase.command.AssociateCapacityWithBootcampCommand;
 import co.com.bancolombia.usecase.command.CreateCapacityCommand;
 import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.CapacityEventResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Validator;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Component
@@ -33,6 +42,23 @@ public class Handler {
   private static final String BUSINESS_ERROR_TEXT = "BUSINESS_ERROR";
   private static final String INTERNAL_ERROR_TEXT = "INTERNAL_ERROR";
   private static final String GENERIC_ERROR_MESSAGE = "An unexpected error occurred";
+  private static final String INVALID_IDS_MESSAGE = "The ids should be numeric.";
+  private static final String INVALID_EVENT_STREAM_MESSAGE = "The last event id and bootcamp id should be numeric.";
+  private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+  private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+  private static final String TECHNOLOGIES_FIELD = "technologies";
+  private static final Set<String> CAPACITY_FIELDS = Set.of("capacityId", "name", "description", TECHNOLOGIES_FIELD, "degraded");
+  private static final String INVALID_FIELDS_MESSAGE = "The fields should be any of capacityId, name, description, technologies, degraded.";
+  private static final ExpectedErrorLog EXPECTED_ERROR_LOG = new ExpectedErrorLog(log, Duration.ofSeconds(10), 1024);
+  private static final ErrorBodyCache ERROR_BODIES = new ErrorBodyCache(Map.of(BUSINESS_ERROR_TEXT, List.of(
+    CreateCapacityRules.CAPACITY_LOWER_BOUND_MESSAGE,
+    CreateCapacityRules.CAPACITY_UPPER_BOUND_MESSAGE,
+    CreateCapacityRules.TECHNOLOGIES_DUPLICATED_MESSAGE,
+    CreateCapacityRules.CAPACITY_DUPLICATED_MESSAGE,
+    CreateCapacityRules.TECHNOLOGY_NOT_FOUND_MESSAGE,
+    AssociateCapacityWithBootcampUseCase.CAPACITY_NOT_FOUND_MESSAGE,
+    AssociateCapacityWithBootcampUseCase.ASSOCIATION_ALREADY_EXISTS_MESSAGE,
+    DeleteCapacityUseCase.BOOTCAMP_ID_CANNOT_BE_NULL_MESSAGE)));
 
   private final CreateCapacityUseCase createCapacityUseCase;
   private final GetCapacityUseCase getCapacityUseCase;
@@ -40,28 +66,47 @@ public class Handler {
   private final GetCapacityByBootcampUseCase getCapacityByBootcampUseCase;
   private final GetAllCapacityIdsUseCase getAllCapacityIdsUseCase;
   private final DeleteCapacityUseCase deleteCapacityUseCase;
-  private final Validator validator;
+  private final SearchCapacitiesUseCase searchCapacitiesUseCase;
+  private final CreateCapacitiesBulkUseCase createCapacitiesBulkUseCase;
+  private final GetCapacitiesByIdsUseCase getCapacitiesByIdsUseCase;
+  private final StreamCapacityEventsUseCase streamCapacityEventsUseCase;
 
   public Mono<ServerResponse> createCapacity(ServerRequest serverRequest) {
     return serverRequest.bodyToMono(CreateCapacityRequest.class)
-      .doOnNext(this::validateRequest)
+      .doOnNext(RequestValidator::validate)
       .map(this::mapToCommand)
       .flatMap(createCapacityUseCase::execute)
       .flatMap(this::buildSuccessResponse)
-      .onErrorResume(ConstraintViolationException.class, this::handleValidationException)
+      .onErrorResume(RequestValidationException.class, this::handleValidationException)
       .onErrorResume(DomainException.class, this::handleDomainException)
       .onErrorResume(BussinessException.class, this::handleBusinessException)
       .onErrorResume(Exception.class, this::handleGenericException)
       .doOnError(error -> log.error(GENERIC_ERROR_MESSAGE, error));
   }
 
+  public Mono<ServerResponse> createCapacitiesBulk(ServerRequest serverRequest) {
+    // Items are not rejected as a whole here; each one is validated by the use case and reported in its result.
+    // One item past the maximum is enough for the use case to reject the bulk, so the rest of the body is not decoded
+    return serverRequest.bodyToFlux(CreateCapacityRequest.class)
+      .take(CreateCapacitiesBulkUseCase.MAX_BULK_SIZE + 1L)
+      .map(this::mapToCommand)
+      .collectList()
+      .flatMap(createCapacitiesBulkUseCase::execute)
+      .flatMap(this::buildSuccessResponse)
+      .onErrorResume(DomainException.class, this::handleDomainException)
+      .onErrorResume(BussinessException.class, this::handleBusinessException)
+      .onErrorResume(Exception.class, this::handleGenericException)
+      .doOnError(error -> log.error("Error creating capacities in bulk", error));
+  }
+
   public Mono<ServerResponse> getAllCapacities(ServerRequest serverRequest) {
     int page = serverRequest.queryParam("page").map(Integer::parseInt).orElse(0);
     int size = serverRequest.queryParam("size").map(Integer::parseInt).orElse(10);
     String sortBy = serverRequest.queryParam("sortBy").orElse("name");
     String order = serverRequest.queryParam("order").orElse("asc");
 
-    return getCapacityUseCase.execute(page, size, sortBy, order)
+    return Mono.fromCallable(() -> includesTechnologies(serverRequest))
+      .flatMap(withTechnologies -> getCapacityUseCase.execute(page, size, sortBy, order, withTechnologies))
       .flatMap(this::buildSuccessResponse)
       .onErrorResume(DomainException.class, this::handleDomainException)
       .onErrorResume(BussinessException.class, this::handleBusinessException)
@@ -69,6 +114,65 @@ public class Handler {
       .doOnError(error -> log.error("Error retrieving capacities", error));
   }
 
+  public Mono<ServerResponse> getCapacitiesByIds(ServerRequest serverRequest) {
+    // Accepts both ids=1,2,3 and ids=1&ids=2&ids=3
+    return Mono.fromCallable(() -> serverRequest.queryParams().getOrDefault("ids", List.of()).stream()
+        .flatMap(ids -> Arrays.stream(ids.split(",")))
+        .map(String::trim)
+        .filter(id -> !id.isEmpty())
+        .map(Long::valueOf)
+        .toList())
+      .onErrorMap(NumberFormatException.class, e -> new BussinessException(INVALID_IDS_MESSAGE))
+      .flatMap(getCapacitiesByIdsUseCase::execute)
+      .flatMap(this::buildSuccessResponse)
+      .onErrorResume(DomainException.class, this::handleDomainException)
+      .onErrorResume(BussinessException.class, this::handleBusinessException)
+      .onErrorResume(Exception.class, this::handleGenericException)
+      .doOnError(error -> log.error("Error retrieving capacities by ids", error));
+  }
+
+  public Mono<ServerResponse> streamCapacityEvents(ServerRequest serverRequest) {
+    // EventSource sends Last-Event-ID on reconnect; the query parameter covers clients that cannot set headers
+    return Mono.fromCallable(() -> streamCapacityEventsUseCase.execute(
+        Optional.ofNullable(serverRequest.headers().firstHeader(LAST_EVENT_ID_HEADER))
+          .or(() -> serverRequest.queryParam("lastEventId"))
+          .map(Long::valueOf)
+          .orElse(null),
+        serverRequest.queryParam("bootcampId").map(Long::valueOf).orElse(null)))
+      .onErrorMap(NumberFormatException.class, e -> new BussinessException(INVALID_EVENT_STREAM_MESSAGE))
+      .flatMap(events -> ServerResponse.ok()
+        .contentType(MediaType.TEXT_EVENT_STREAM)
+        .body(events.publish(shared -> Flux.merge(
+            shared.map(event -> ServerSentEvent.builder(event)
+              .id(String.valueOf(event.getEventId()))
+              .event(event.getType())
+              .build()),
+            // Comments keep idle connections open through proxies and are ignored by clients
+            Flux.interval(HEARTBEAT_INTERVAL)
+              .map(tick -> ServerSentEvent.<CapacityEventResponse>builder().comment("heartbeat").build())
+              .takeUntilOther(shared.then()))),
+          new ParameterizedTypeReference<ServerSentEvent<CapacityEventResponse>>() {}))
+      .onErrorResume(DomainException.class, this::handleDomainException)
+      .onErrorResume(BussinessException.class, this::handleBusinessException)
+      .onErrorResume(Exception.class, this::handleGenericException)
+      .doOnError(error -> log.error("Error streaming capacity events", error));
+  }
+
+  public Mono<ServerResponse> searchCapacities(ServerRequest serverRequest) {
+    String text = serverRequest.queryParam("q").orElse(null);
+    String technology = serverRequest.queryParam("technology").orElse(null);
+    String cursor = serverRequest.queryParam("cursor").orElse(null);
+    int size = serverRequest.queryParam("size").map(Integer::parseInt).orElse(10);
+
+    return Mono.fromCallable(() -> includesTechnologies(serverRequest))
+      .flatMap(withTechnologies -> searchCapacitiesUseCase.execute(text, technology, cursor, size, withTechnologies))
+      .flatMap(this::buildSuccessResponse)
+      .onErrorResume(DomainException.class, this::handleDomainException)
+      .onErrorResume(BussinessException.class, this::handleBusinessException)
+      .onErrorResume(Exception.class, this::handleGenericException)
+      .doOnError(error -> log.error("Error searching capacities", error));
+  }
+
   public Mono<ServerResponse> getAllCapacityIds(ServerRequest serverRequest) {
     return getAllCapacityIdsUseCase.execute()
       .collectList()
@@ -82,8 +186,8 @@ public class Handler {
   public Mono<ServerResponse> getCapacitiesByBootcamp(ServerRequest serverRequest) {
     Long bootcampId = Long.parseLong(serverRequest.pathVariable("bootcampId"));
     
-    return getCapacityByBootcampUseCase.execute(bootcampId)
-      .collectList()
+    return Mono.fromCallable(() -> includesTechnologies(serverRequest))
+      .flatMap(withTechnologies -> getCapacityByBootcampUseCase.execute(bootcampId, withTechnologies).collectList())
       .flatMap(this::buildSuccessResponse)
       .onErrorResume(DomainException.class, this::handleDomainException)
       .onErrorResume(BussinessException.class, this::handleBusinessException)
@@ -93,11 +197,11 @@ public class Handler {
 
   public Mono<ServerResponse> associateTechnologyWithCapacity(ServerRequest serverRequest) {
     return serverRequest.bodyToMono(AssociateCapacityWithBootcampRequest.class)
-      .doOnNext(this::validateAssociateRequest)
+      .doOnNext(RequestValidator::validate)
       .map(this::mapToAssociateCommand)
       .flatMap(associateCapacityWithBootcampUseCase::execute)
       .flatMap(this::buildSuccessResponse)
-      .onErrorResume(ConstraintViolationException.class, this::handleValidationException)
+      .onErrorResume(RequestValidationException.class, this::handleValidationException)
       .onErrorResume(DomainException.class, this::handleDomainException)
       .onErrorResume(BussinessException.class, this::handleBusinessException)
       .onErrorResume(Exception.class, this::handleGenericException)
@@ -114,18 +218,21 @@ public class Handler {
       .doOnError(error -> log.error("Error deleting capacities by bootcamp", error));
   }
 
-  private void validateAssociateRequest(AssociateCapacityWithBootcampRequest request) {
-    Set<ConstraintViolation<AssociateCapacityWithBootcampRequest>> violations = validator.validate(request);
-    if (!violations.isEmpty()) {
-      throw new ConstraintViolationException(violations);
+  // Without fields every field is returned; technologies is the only one that costs remote calls
+  private boolean includesTechnologies(ServerRequest serverRequest) {
+    Optional<String> fields = serverRequest.queryParam("fields");
+    if (fields.isEmpty()) {
+      return true;
     }
-  }
 
-  private void validateRequest(CreateCapacityRequest request) {
-    Set<ConstraintViolation<CreateCapacityRequest>> violations = validator.validate(request);
-    if (!violations.isEmpty()) {
-      throw new ConstraintViolationException(violations);
+    List<String> requested = Arrays.stream(fields.get().split(","))
+      .map(String::trim)
+      .filter(field -> !field.isEmpty())
+      .toList();
+    if (!CAPACITY_FIELDS.containsAll(requested)) {
+      throw new BussinessException(INVALID_FIELDS_MESSAGE);
     }
+    return requested.contains(TECHNOLOGIES_FIELD);
   }
 
   private AssociateCapacityWithBootcampCommand mapToAssociateCommand(AssociateCapacityWithBootcampRequest request) {
@@ -142,35 +249,33 @@ public class Handler {
       .bodyValue(response);
   }
 
-  private Mono<ServerResponse> handleValidationException(ConstraintViolationException ex) {
-    String errorMessage = ex.getConstraintViolations().stream()
-      .map(ConstraintViolation::getMessage)
-      .collect(Collectors.joining(", "));
-
-    log.warn("Validation error: {}", errorMessage);
-
-    return ServerResponse.badRequest()
-      .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(createErrorResponse(VALIDATION_ERROR_TEXT, errorMessage));
+  private Mono<ServerResponse> handleValidationException(RequestValidationException ex) {
+    EXPECTED_ERROR_LOG.warn("Validation", ex.getMessage());
+    return errorResponse(VALIDATION_ERROR_TEXT, ex.getMessage());
   }
 
   private Mono<ServerResponse> handleDomainException(DomainException ex) {
-    log.warn("Domain error: {}", ex.getMessage());
-
-    return ServerResponse.badRequest()
-      .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(createErrorResponse(DOMAIN_ERROR_TEXT, ex.getMessage()));
+    EXPECTED_ERROR_LOG.warn("Domain", ex.getMessage());
+    return errorResponse(DOMAIN_ERROR_TEXT, ex.getMessage());
   }
 
   private Mono<ServerResponse> handleBusinessException(BussinessException ex) {
-    log.warn("Business error: {}", ex.getMessage());
+    EXPECTED_ERROR_LOG.warn("Business", ex.getMessage());
+    return errorResponse(BUSINESS_ERROR_TEXT, ex.getMessage());
+  }
 
+  private Mono<ServerResponse> errorResponse(String error, String message) {
     return ServerResponse.badRequest()
       .contentType(MediaType.APPLICATION_JSON)
-      .bodyValue(createErrorResponse(BUSINESS_ERROR_TEXT, ex.getMessage()));
+      .bodyValue(ERROR_BODIES.body(error, message));
   }
 
   private Mono<ServerResponse> handleGenericException(Exception ex) {
+    if (ex instanceof TimeoutException) {
+      log.warn("Request deadline exceeded: {}", ex.getMessage());
+      return RequestDeadlineFilter.deadlineExceeded();
+    }
+
     log.error("Unexpected error", ex);
 
     return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,151 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.config.CollapsingProperties;
+import co.com.bancolombia.model.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shares one execution among identical GET requests that arrive while it is still running. The key is the path,
+ * the raw query and the {@code deadlineBucket} in which the caller's deadline ends. The execution runs until the end
+ * of that bucket, so it never gives up before any of its waiters does, and each waiter still times out on its own
+ * deadline. Past {@code maxWaiters} on one key requests run on their own, and the execution is cancelled only when
+ * every request waiting for it has gone away. Nothing is kept once it completes.
+ */
+@Component
+public class RequestCollapsingFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+  private static final String REQUESTS_METRIC = "http.server.collapsing.requests";
+  private static final String IN_FLIGHT_METRIC = "http.server.collapsing.inflight";
+  private static final String ROLE_TAG = "role";
+
+  private final CollapsingProperties properties;
+  private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+  private final Counter leaders;
+  private final Counter followers;
+  private final Counter overflows;
+
+  public RequestCollapsingFilter(CollapsingProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.leaders = Counter.builder(REQUESTS_METRIC).tag(ROLE_TAG, "leader").register(meterRegistry);
+    this.followers = Counter.builder(REQUESTS_METRIC).tag(ROLE_TAG, "follower").register(meterRegistry);
+    this.overflows = Counter.builder(REQUESTS_METRIC).tag(ROLE_TAG, "overflow").register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_METRIC, flights, Map::size).register(meterRegistry);
+  }
+
+  @Override
+  public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+    if (!properties.isEnabled() || !HttpMethod.GET.equals(request.method())) {
+      return next.handle(request);
+    }
+
+    return Mono.deferContextual(context -> {
+      long now = System.nanoTime();
+      long bucketNanos = properties.getDeadlineBucket().toNanos();
+      Optional<Long> bucket = RequestDeadline.from(context)
+        .map(deadline -> Math.floorDiv(now + deadline.remaining().toNanos(), bucketNanos));
+      String key = key(request, bucket);
+      while (true) {
+        Flight candidate = new Flight(key);
+        Flight flight = flights.putIfAbsent(key, candidate);
+        if (flight == null) {
+          leaders.increment();
+          // The execution keeps the leader's context, with the deadline moved to the end of the bucket
+          candidate.execution = bucket
+            .map(index -> RequestDeadline.after(Duration.ofNanos((index + 1) * bucketNanos - now)))
+            .map(shared -> next.handle(request).contextWrite(inner -> inner.put(RequestDeadline.CONTEXT_KEY, shared)))
+            .orElseGet(() -> next.handle(request))
+            .contextWrite(context)
+            .subscribe(candidate::succeed, candidate::fail, candidate::succeedEmpty);
+          return candidate.await();
+        }
+        if (flight.tryJoin(properties.getMaxWaiters())) {
+          followers.increment();
+          return flight.await();
+        }
+        if (!flight.isClosed()) {
+          overflows.increment();
+          return next.handle(request);
+        }
+        flights.remove(key, flight);
+      }
+    });
+  }
+
+  private static String key(ServerRequest request, Optional<Long> bucket) {
+    String query = request.uri().getRawQuery();
+    return request.path() + (query == null ? "" : '?' + query) + bucket.map(index -> "#" + index).orElse("");
+  }
+
+  private final class Flight {
+    private final String key;
+    private final Sinks.One<ServerResponse> outcome = Sinks.one();
+    // Requests waiting for the outcome, the leader included; zero means the flight is closed
+    private final AtomicInteger waiters = new AtomicInteger(1);
+    private volatile Disposable execution;
+
+    private Flight(String key) {
+      this.key = key;
+    }
+
+    private boolean tryJoin(int maxWaiters) {
+      while (true) {
+        int current = waiters.get();
+        if (current == 0 || current > maxWaiters) {
+          return false;
+        }
+        if (waiters.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+
+    private boolean isClosed() {
+      return waiters.get() == 0;
+    }
+
+    private Mono<ServerResponse> await() {
+      return outcome.asMono().doFinally(signal -> leave());
+    }
+
+    private void leave() {
+      if (waiters.decrementAndGet() == 0) {
+        flights.remove(key, this);
+        Disposable running = execution;
+        if (running != null) {
+          running.dispose();
+        }
+      }
+    }
+
+    private void succeed(ServerResponse response) {
+      flights.remove(key, this);
+      outcome.tryEmitValue(response);
+    }
+
+    private void succeedEmpty() {
+      flights.remove(key, this);
+      outcome.tryEmitEmpty();
+    }
+
+    private void fail(Throwable error) {
+      flights.remove(key, this);
+      outcome.tryEmitError(error);
+    }
+  }
+}
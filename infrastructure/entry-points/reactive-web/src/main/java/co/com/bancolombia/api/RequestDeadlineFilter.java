@@ -0,0 +1,76 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.response.ErrorResponse;
+import co.com.bancolombia.model.deadline.RequestDeadline;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Starts the request deadline from the caller's {@code X-Request-Timeout} header (milliseconds), or from the
+ * route default, and puts it in the Reactor context where the R2DBC and technology adapters read it. The header can
+ * shorten the route default but not extend it, and budgets under {@code MIN_BUDGET} are raised to it.
+ */
+public class RequestDeadlineFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+  static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+  static final String TIMEOUT_ERROR_TEXT = "TIMEOUT_ERROR";
+  static final String DEADLINE_EXCEEDED_MESSAGE = "The request deadline was exceeded";
+  static final Duration MIN_BUDGET = Duration.ofMillis(100);
+
+  private final Duration defaultBudget;
+  private final Duration minimumBudget;
+
+  private RequestDeadlineFilter(Duration defaultBudget) {
+    this.defaultBudget = defaultBudget;
+    this.minimumBudget = MIN_BUDGET.compareTo(defaultBudget) < 0 ? MIN_BUDGET : defaultBudget;
+  }
+
+  public static RequestDeadlineFilter withDefault(Duration defaultBudget) {
+    return new RequestDeadlineFilter(defaultBudget);
+  }
+
+  @Override
+  public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+    RequestDeadline deadline = RequestDeadline.after(budget(request));
+
+    return next.handle(request)
+      .timeout(deadline.remaining(), Mono.defer(RequestDeadlineFilter::deadlineExceeded))
+      .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline));
+  }
+
+  static Mono<ServerResponse> deadlineExceeded() {
+    return ServerResponse.status(HttpStatus.GATEWAY_TIMEOUT)
+      .contentType(MediaType.APPLICATION_JSON)
+      .bodyValue(new ErrorResponse(TIMEOUT_ERROR_TEXT, DEADLINE_EXCEEDED_MESSAGE));
+  }
+
+  private Duration budget(ServerRequest request) {
+    return Optional.ofNullable(request.headers().firstHeader(REQUEST_TIMEOUT_HEADER))
+      .flatMap(RequestDeadlineFilter::parseMillis)
+      .map(this::clamp)
+      .orElse(defaultBudget);
+  }
+
+  private Duration clamp(Duration requested) {
+    if (requested.compareTo(minimumBudget) < 0) {
+      return minimumBudget;
+    }
+    return requested.compareTo(defaultBudget) > 0 ? defaultBudget : requested;
+  }
+
+  private static Optional<Duration> parseMillis(String value) {
+    try {
+      long millis = Long.parseLong(value.trim());
+      return millis >= 0 ? Optional.of(Duration.ofMillis(millis)) : Optional.empty();
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
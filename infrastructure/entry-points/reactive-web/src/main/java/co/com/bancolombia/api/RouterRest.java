@@ -5,6 +5,7 @@ import co.com.bancolombia.api.request.AssociateCapacityWithBootcampRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,14 +19,22 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.bind.annotation.RequestMethod;
 
+import java.time.Duration;
+
 import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
 import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
 import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
 @Configuration
 public class RouterRest {
   private final String BASE_URL = "/v1/api";
+  private static final Duration READ_DEADLINE = Duration.ofSeconds(3);
+  private static final Duration SEARCH_DEADLINE = Duration.ofSeconds(2);
+  private static final Duration WRITE_DEADLINE = Duration.ofSeconds(5);
+  private static final Duration DELETE_DEADLINE = Duration.ofSeconds(10);
+  private static final Duration BULK_DEADLINE = Duration.ofSeconds(30);
 
   @Bean
   @RouterOperation(
@@ -40,6 +49,9 @@ public class RouterRest {
       description = "Crea una capacidad con sus tecnologías asociadas. " +
         "Valida los datos de entrada y maneja errores de validación, dominio, negocio e internos.",
       tags = {"Capacity Management"},
+      parameters = {
+        @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "Clave única por operación; los reintentos con la misma clave reciben la respuesta original sin volver a ejecutarla", example = "5f1c9a2e-7b1d-4c55-9a0e-2f3d4b6a8c10", schema = @Schema(type = "string", maxLength = 255))
+      },
       requestBody = @RequestBody(
         required = true,
         description = "Datos de la capacidad a crear. Requiere nombre (máx 50) y descripción (máx 90), y lista de tecnologías (3 a 20).",
@@ -70,7 +82,8 @@ public class RouterRest {
                 "  \"description\": \"Handles all payment features\",\n" +
                 "  \"technologies\": [\n" +
                 "    { \"technologyId\": 10, \"name\": \"Java\", \"description\": \"Java 21 LTS\" }\n" +
-                "  ]\n" +
+                "  ],\n" +
+                "  \"degraded\": false\n" +
                 "}"
             )
           )
@@ -88,6 +101,10 @@ public class RouterRest {
             )
           )
         ),
+        @ApiResponse(responseCode = "409", description = "Otra petición con la misma Idempotency-Key sigue en proceso",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "422", description = "La Idempotency-Key ya se usó con una petición diferente",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
         @ApiResponse(responseCode = "500", description = "Error interno del servidor",
           content = @Content(
             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -105,7 +122,80 @@ public class RouterRest {
     )
   )
   public RouterFunction<ServerResponse> createCapacityRoute(Handler handler) {
-    return route(POST(BASE_URL + "/capacity"), handler::createCapacity);
+    return route(POST(BASE_URL + "/capacity"), handler::createCapacity)
+      .filter(RequestDeadlineFilter.withDefault(WRITE_DEADLINE));
+  }
+
+  @Bean
+  @RouterOperation(
+    path = "/v1/api/capacity/bulk",
+    produces = {MediaType.APPLICATION_JSON_VALUE},
+    method = RequestMethod.POST,
+    beanClass = Handler.class,
+    beanMethod = "createCapacitiesBulk",
+    operation = @Operation(
+      operationId = "createCapacitiesBulk",
+      summary = "Crear capacidades en lote",
+      description = "Crea hasta 100 capacidades en una sola solicitud. Valida todos los elementos antes de escribir, " +
+        "verifica nombres y tecnologías una sola vez y retorna un resultado por elemento, incluidos los fallidos.",
+      tags = {"Capacity Management"},
+      requestBody = @RequestBody(
+        required = true,
+        description = "Lista de capacidades a crear, con el mismo formato que la creación individual.",
+        content = @Content(
+          mediaType = MediaType.APPLICATION_JSON_VALUE,
+          array = @ArraySchema(schema = @Schema(implementation = CreateCapacityRequest.class))
+        )
+      ),
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Lote procesado; cada elemento indica si fue creado o falló",
+          content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            examples = @ExampleObject(
+              name = "Success Response",
+              summary = "Resultado por elemento",
+              value = "{\n" +
+                "  \"results\": [\n" +
+                "    {\n" +
+                "      \"index\": 0,\n" +
+                "      \"name\": \"Payments Squad\",\n" +
+                "      \"status\": \"CREATED\",\n" +
+                "      \"capacity\": { \"capacityId\": 123, \"name\": \"Payments Squad\", \"description\": \"Handles all payment features\", \"technologies\": [], \"degraded\": false },\n" +
+                "      \"error\": null\n" +
+                "    },\n" +
+                "    {\n" +
+                "      \"index\": 1,\n" +
+                "      \"name\": \"User Management\",\n" +
+                "      \"status\": \"FAILED\",\n" +
+                "      \"capacity\": null,\n" +
+                "      \"error\": \"The capacity name cannot be duplicated.\"\n" +
+                "    }\n" +
+                "  ],\n" +
+                "  \"created\": 1,\n" +
+                "  \"failed\": 1\n" +
+                "}"
+            )
+          )
+        ),
+        @ApiResponse(responseCode = "400", description = "El lote está vacío o supera el máximo",
+          content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            examples = @ExampleObject(
+              name = "Business Error",
+              summary = "Tamaño de lote inválido",
+              value = "{\n" +
+                "  \"error\": \"BUSINESS_ERROR\",\n" +
+                "  \"message\": \"The bulk request should have between 1 and 100 capacities.\"\n" +
+                "}"
+            )
+          )
+        )
+      }
+    )
+  )
+  public RouterFunction<ServerResponse> createCapacitiesBulkRoute(Handler handler) {
+    return route(POST(BASE_URL + "/capacity/bulk"), handler::createCapacitiesBulk)
+      .filter(RequestDeadlineFilter.withDefault(BULK_DEADLINE));
   }
 
   @Bean
@@ -119,21 +209,198 @@ public class RouterRest {
       operationId = "getAllCapacities",
       summary = "Obtener capacidades paginadas y ordenadas",
       description = "Retorna capacidades con sus tecnologías asociadas, soportando paginación y ordenamiento. " +
+        "Incluye el total de elementos y de páginas para evitar solicitar páginas vacías. " +
+        "Si el servicio de tecnologías no está disponible se usan las últimas tecnologías conocidas y la capacidad se marca como degraded. " +
+        "Si se envía ids (hasta 100, separados por coma) retorna esas capacidades en el mismo orden, con sus tecnologías " +
+        "obtenidas en una sola consulta, y lista en missingIds las que no existen; en ese caso se ignoran page, size, sortBy y order. " +
         "Maneja errores de dominio, negocio e internos.",
       tags = {"Capacity Management"},
       parameters = {
+        @Parameter(name = "ids", description = "Ids de capacidades a consultar en lote", example = "123,124,999", schema = @Schema(type = "string")),
         @Parameter(name = "page", description = "Número de página (base 0)", example = "0", schema = @Schema(type = "integer", defaultValue = "0")),
         @Parameter(name = "size", description = "Tamaño de página", example = "10", schema = @Schema(type = "integer", defaultValue = "10")),
         @Parameter(name = "sortBy", description = "Campo por el cual ordenar", example = "name", schema = @Schema(type = "string", allowableValues = {"name", "technologies"}, defaultValue = "name")),
+        @Parameter(name = "fields", description = "Campos a retornar separados por coma; si no incluye technologies no se consulta el servicio de tecnologías", example = "capacityId,name", schema = @Schema(type = "string", defaultValue = "capacityId,name,description,technologies,degraded")),
         @Parameter(name = "order", description = "Dirección del ordenamiento", example = "asc", schema = @Schema(type = "string", allowableValues = {"asc", "desc"}, defaultValue = "asc"))
       },
       responses = {
         @ApiResponse(responseCode = "200", description = "Capacidades obtenidas exitosamente",
+          content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            examples = {
+              @ExampleObject(
+                name = "Success Response",
+                summary = "Lista de capacidades paginadas y ordenadas",
+                value = "{\n" +
+                  "  \"capacities\": [\n" +
+                  "    {\n" +
+                  "      \"capacityId\": 123,\n" +
+                  "      \"name\": \"Payments Squad\",\n" +
+                  "      \"description\": \"Handles all payment features\",\n" +
+                  "      \"technologies\": [\n" +
+                  "        { \"technologyId\": 10, \"name\": \"Java\", \"description\": \"Java 21 LTS\" },\n" +
+                  "        { \"technologyId\": 11, \"name\": \"Spring Boot\", \"description\": \"Spring Boot Framework\" }\n" +
+                  "      ],\n" +
+                  "      \"degraded\": false\n" +
+                  "    },\n" +
+                  "    {\n" +
+                  "      \"capacityId\": 124,\n" +
+                  "      \"name\": \"User Management\",\n" +
+                  "      \"description\": \"Handles user operations\",\n" +
+                  "      \"technologies\": [\n" +
+                  "        { \"technologyId\": 12, \"name\": \"React\", \"description\": \"React Framework\" }\n" +
+                  "      ],\n" +
+                  "      \"degraded\": false\n" +
+                  "    }\n" +
+                  "  ],\n" +
+                  "  \"filter\": {\n" +
+                  "    \"page\": 0,\n" +
+                  "    \"size\": 10,\n" +
+                  "    \"sortBy\": \"name\",\n" +
+                  "    \"order\": \"asc\"\n" +
+                  "  },\n" +
+                  "  \"totalElements\": 2,\n" +
+                  "  \"totalPages\": 1\n" +
+                  "}"
+              ),
+              @ExampleObject(
+                name = "Batch Response",
+                summary = "Consulta en lote por ids",
+                value = "{\n" +
+                  "  \"capacities\": [\n" +
+                  "    {\n" +
+                  "      \"capacityId\": 124,\n" +
+                  "      \"name\": \"User Management\",\n" +
+                  "      \"description\": \"Handles user operations\",\n" +
+                  "      \"technologies\": [\n" +
+                  "        { \"technologyId\": 12, \"name\": \"React\", \"description\": \"React Framework\" }\n" +
+                  "      ],\n" +
+                  "      \"degraded\": false\n" +
+                  "    }\n" +
+                  "  ],\n" +
+                  "  \"missingIds\": [999]\n" +
+                  "}"
+              )
+            }
+          )
+        ),
+        @ApiResponse(responseCode = "400", description = "Error de dominio o negocio",
+          content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            examples = @ExampleObject(
+              name = "Business Error",
+              summary = "Error de negocio",
+              value = "{\n" +
+                "  \"error\": \"BUSINESS_ERROR\",\n" +
+                "  \"message\": \"No capacities found\"\n" +
+                "}"
+            )
+          )
+        ),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor",
+          content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            examples = @ExampleObject(
+              name = "Internal Error",
+              summary = "Error interno",
+              value = "{\n" +
+                "  \"error\": \"INTERNAL_ERROR\",\n" +
+                "  \"message\": \"An unexpected error occurred\"\n" +
+                "}"
+            )
+          )
+        )
+      }
+    )
+  )
+  public RouterFunction<ServerResponse> getAllCapacitiesRoute(Handler handler) {
+    return route(GET(BASE_URL + "/capacity").and(queryParam("ids", ids -> true)), handler::getCapacitiesByIds)
+      .andRoute(GET(BASE_URL + "/capacity"), handler::getAllCapacities)
+      .filter(RequestDeadlineFilter.withDefault(READ_DEADLINE));
+  }
+
+  @Bean
+  @RouterOperation(
+    path = "/v1/api/capacity/events",
+    produces = {MediaType.TEXT_EVENT_STREAM_VALUE},
+    method = RequestMethod.GET,
+    beanClass = Handler.class,
+    beanMethod = "streamCapacityEvents",
+    operation = @Operation(
+      operationId = "streamCapacityEvents",
+      summary = "Suscribirse a los cambios de capacidades",
+      description = "Emite por Server-Sent Events la creación y eliminación de capacidades y la asociación o " +
+        "desasociación con bootcamps, en lugar de consultar periódicamente. Cada evento lleva su id; al reconectar, " +
+        "Last-Event-ID (o lastEventId) reanuda desde el siguiente evento. Un suscriptor que se atrasa más que su " +
+        "buffer es desconectado y debe reanudar desde su último id.",
+      tags = {"Capacity Management"},
+      parameters = {
+        @Parameter(name = "Last-Event-ID", in = ParameterIn.HEADER, description = "Último evento recibido", example = "42", schema = @Schema(type = "integer", format = "int64")),
+        @Parameter(name = "lastEventId", in = ParameterIn.QUERY, description = "Alternativa al encabezado Last-Event-ID", example = "42", schema = @Schema(type = "integer", format = "int64")),
+        @Parameter(name = "bootcampId", in = ParameterIn.QUERY, description = "Solo eventos de este bootcamp", example = "100", schema = @Schema(type = "integer", format = "int64"))
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Flujo de eventos",
+          content = @Content(
+            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+            examples = @ExampleObject(
+              name = "Event Stream",
+              summary = "Evento de asociación",
+              value = "id:43\n" +
+                "event:ASSOCIATION_ADDED\n" +
+                "data:{\"eventId\":43,\"type\":\"ASSOCIATION_ADDED\",\"capacityId\":123,\"bootcampId\":100,\"occurredAt\":\"2025-01-01T10:00:00Z\"}\n"
+            )
+          )
+        ),
+        @ApiResponse(responseCode = "400", description = "Id de evento o de bootcamp inválido",
+          content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            examples = @ExampleObject(
+              name = "Business Error",
+              summary = "Parámetro inválido",
+              value = "{\n" +
+                "  \"error\": \"BUSINESS_ERROR\",\n" +
+                "  \"message\": \"The last event id and bootcamp id should be numeric.\"\n" +
+                "}"
+            )
+          )
+        )
+      }
+    )
+  )
+  public RouterFunction<ServerResponse> streamCapacityEventsRoute(Handler handler) {
+    // No deadline filter: the stream is meant to stay open
+    return route(GET(BASE_URL + "/capacity/events"), handler::streamCapacityEvents);
+  }
+
+  @Bean
+  @RouterOperation(
+    path = "/v1/api/capacity/search",
+    produces = {MediaType.APPLICATION_JSON_VALUE},
+    method = RequestMethod.GET,
+    beanClass = Handler.class,
+    beanMethod = "searchCapacities",
+    operation = @Operation(
+      operationId = "searchCapacities",
+      summary = "Buscar capacidades por texto",
+      description = "Busca capacidades cuyo nombre o descripción contenga el texto dado, ordenadas por relevancia. " +
+        "Usa paginación por cursor: envíe el nextCursor recibido para obtener la siguiente página. " +
+        "Con filtro de tecnología una página puede traer menos elementos que el tamaño pedido.",
+      tags = {"Capacity Management"},
+      parameters = {
+        @Parameter(name = "q", description = "Texto a buscar (mínimo 3 caracteres)", example = "pay", required = true, schema = @Schema(type = "string")),
+        @Parameter(name = "technology", description = "Nombre de tecnología que deben tener las capacidades", example = "Java", schema = @Schema(type = "string")),
+        @Parameter(name = "cursor", description = "Cursor de la página anterior", schema = @Schema(type = "string")),
+        @Parameter(name = "size", description = "Tamaño de página (1 a 50)", example = "10", schema = @Schema(type = "integer", defaultValue = "10")),
+        @Parameter(name = "fields", description = "Campos a retornar separados por coma; si no incluye technologies y no hay filtro de tecnología no se consulta el servicio de tecnologías", example = "capacityId,name", schema = @Schema(type = "string", defaultValue = "capacityId,name,description,technologies,degraded"))
+      },
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente",
           content = @Content(
             mediaType = MediaType.APPLICATION_JSON_VALUE,
             examples = @ExampleObject(
               name = "Success Response",
-              summary = "Lista de capacidades paginadas y ordenadas",
+              summary = "Capacidades encontradas",
               value = "{\n" +
                 "  \"capacities\": [\n" +
                 "    {\n" +
@@ -141,25 +408,12 @@ public class RouterRest {
                 "      \"name\": \"Payments Squad\",\n" +
                 "      \"description\": \"Handles all payment features\",\n" +
                 "      \"technologies\": [\n" +
-                "        { \"technologyId\": 10, \"name\": \"Java\", \"description\": \"Java 21 LTS\" },\n" +
-                "        { \"technologyId\": 11, \"name\": \"Spring Boot\", \"description\": \"Spring Boot Framework\" }\n" +
-                "      ]\n" +
-                "    },\n" +
-                "    {\n" +
-                "      \"capacityId\": 124,\n" +
-                "      \"name\": \"User Management\",\n" +
-                "      \"description\": \"Handles user operations\",\n" +
-                "      \"technologies\": [\n" +
-                "        { \"technologyId\": 12, \"name\": \"React\", \"description\": \"React Framework\" }\n" +
-                "      ]\n" +
+                "        { \"technologyId\": 10, \"name\": \"Java\", \"description\": \"Java 21 LTS\" }\n" +
+                "      ],\n" +
+                "      \"degraded\": false\n" +
                 "    }\n" +
                 "  ],\n" +
-                "  \"filter\": {\n" +
-                "    \"page\": 0,\n" +
-                "    \"size\": 10,\n" +
-                "    \"sortBy\": \"name\",\n" +
-                "    \"order\": \"asc\"\n" +
-                "  }\n" +
+                "  \"nextCursor\": \"MC44NTcxNDI5OjEyMw\"\n" +
                 "}"
             )
           )
@@ -172,7 +426,7 @@ public class RouterRest {
               summary = "Error de negocio",
               value = "{\n" +
                 "  \"error\": \"BUSINESS_ERROR\",\n" +
-                "  \"message\": \"No capacities found\"\n" +
+                "  \"message\": \"The search text should have 3 characters minimum.\"\n" +
                 "}"
             )
           )
@@ -193,8 +447,9 @@ public class RouterRest {
       }
     )
   )
-  public RouterFunction<ServerResponse> getAllCapacitiesRoute(Handler handler) {
-    return route(GET(BASE_URL + "/capacity"), handler::getAllCapacities);
+  public RouterFunction<ServerResponse> searchCapacitiesRoute(Handler handler) {
+    return route(GET(BASE_URL + "/capacity/search"), handler::searchCapacities)
+      .filter(RequestDeadlineFilter.withDefault(SEARCH_DEADLINE));
   }
 
   @Bean
@@ -244,7 +499,8 @@ public class RouterRest {
     )
   )
   public RouterFunction<ServerResponse> getAllCapacityIdsRoute(Handler handler) {
-    return route(GET(BASE_URL + "/capacity/ids"), handler::getAllCapacityIds);
+    return route(GET(BASE_URL + "/capacity/ids"), handler::getAllCapacityIds)
+      .filter(RequestDeadlineFilter.withDefault(READ_DEADLINE));
   }
 
   @Bean
@@ -259,6 +515,9 @@ public class RouterRest {
       summary = "Asociar capacidad con bootcamp",
       description = "Asocia una capacidad existente con un bootcamp. Valida el request y maneja errores de validación, dominio/negocio e internos.",
       tags = {"Capacity Management"},
+      parameters = {
+        @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "Clave única por operación; los reintentos con la misma clave reciben la respuesta original sin volver a ejecutarla", example = "5f1c9a2e-7b1d-4c55-9a0e-2f3d4b6a8c10", schema = @Schema(type = "string", maxLength = 255))
+      },
       requestBody = @RequestBody(
         required = true,
         description = "IDs de capacidad y bootcamp a asociar",
@@ -307,6 +566,10 @@ public class RouterRest {
             )
           )
         ),
+        @ApiResponse(responseCode = "409", description = "Otra petición con la misma Idempotency-Key sigue en proceso",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "422", description = "La Idempotency-Key ya se usó con una petición diferente",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
         @ApiResponse(responseCode = "500", description = "Error interno del servidor",
           content = @Content(
             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -324,7 +587,8 @@ public class RouterRest {
     )
   )
   public RouterFunction<ServerResponse> associateCapacityWithBootcampRoute(Handler handler) {
-    return route(POST(BASE_URL + "/capacity/associate"), handler::associateTechnologyWithCapacity);
+    return route(POST(BASE_URL + "/capacity/associate"), handler::associateTechnologyWithCapacity)
+      .filter(RequestDeadlineFilter.withDefault(WRITE_DEADLINE));
   }
 
   @Bean
@@ -338,6 +602,7 @@ public class RouterRest {
       operationId = "getCapacitiesByBootcamp",
       summary = "Obtener capacidades por bootcamp",
       description = "Retorna todas las capacidades asociadas a un bootcamp específico con sus tecnologías. " +
+        "Con fields sin technologies retorna solo los datos de la capacidad, con technologies en null. " +
         "Maneja errores de dominio, negocio e internos.",
       tags = {"Capacity Management"},
       parameters = {
@@ -348,6 +613,13 @@ public class RouterRest {
           required = true,
           in = ParameterIn.PATH,
           schema = @Schema(type = "integer", format = "int64")
+        ),
+        @Parameter(
+          name = "fields",
+          description = "Campos a retornar separados por coma; si no incluye technologies no se consulta el servicio de tecnologías",
+          example = "capacityId,name",
+          in = ParameterIn.QUERY,
+          schema = @Schema(type = "string", defaultValue = "capacityId,name,description,technologies,degraded")
         )
       },
       responses = {
@@ -365,7 +637,8 @@ public class RouterRest {
                 "    \"technologies\": [\n" +
                 "      { \"technologyId\": 10, \"name\": \"Java\", \"description\": \"Java 21 LTS\" },\n" +
                 "      { \"technologyId\": 11, \"name\": \"Spring Boot\", \"description\": \"Spring Boot Framework\" }\n" +
-                "    ]\n" +
+                "    ],\n" +
+                "    \"degraded\": false\n" +
                 "  },\n" +
                 "  {\n" +
                 "    \"capacityId\": 124,\n" +
@@ -373,7 +646,8 @@ public class RouterRest {
                 "    \"description\": \"Handles user operations\",\n" +
                 "    \"technologies\": [\n" +
                 "      { \"technologyId\": 12, \"name\": \"React\", \"description\": \"React Framework\" }\n" +
-                "    ]\n" +
+                "    ],\n" +
+                "    \"degraded\": false\n" +
                 "  }\n" +
                 "]"
             )
@@ -408,8 +682,12 @@ public class RouterRest {
       }
     )
   )
-  public RouterFunction<ServerResponse> getCapacitiesByBootcampRoute(Handler handler) {
-    return route(GET(BASE_URL + "/capacity/bootcamp/{bootcampId}"), handler::getCapacitiesByBootcamp);
+  public RouterFunction<ServerResponse> getCapacitiesByBootcampRoute(Handler handler,
+                                                                    RequestCollapsingFilter requestCollapsingFilter) {
+    // Collapsing runs inside the deadline so each waiter keeps its own deadline
+    return route(GET(BASE_URL + "/capacity/bootcamp/{bootcampId}"), handler::getCapacitiesByBootcamp)
+      .filter(requestCollapsingFilter)
+      .filter(RequestDeadlineFilter.withDefault(READ_DEADLINE));
   }
 
   @Bean
@@ -478,6 +756,7 @@ public class RouterRest {
     )
   )
   public RouterFunction<ServerResponse> deleteCapacitiesByBootcampRoute(Handler handler) {
-    return route(DELETE(BASE_URL + "/capacity/bootcamp/{bootcampId}"), handler::deleteCapacitiesByBootcamp);
+    return route(DELETE(BASE_URL + "/capacity/bootcamp/{bootcampId}"), handler::deleteCapacitiesByBootcamp)
+      .filter(RequestDeadlineFilter.withDefault(DELETE_DEADLINE));
   }
 }
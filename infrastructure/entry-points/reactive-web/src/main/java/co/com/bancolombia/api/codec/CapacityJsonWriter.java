@@ -0,0 +1,189 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.FilterResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesByIdsResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
+import co.com.bancolombia.usecase.response.SearchCapacitiesResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written JSON writers for the capacity responses. Field names and order match what Jackson produces for
+ * these classes, so the output is byte for byte the same; only the bean introspection is skipped.
+ */
+final class CapacityJsonWriter {
+  private static final SerializableString CAPACITY_ID = new SerializedString("capacityId");
+  private static final SerializableString TECHNOLOGY_ID = new SerializedString("technologyId");
+  private static final SerializableString NAME = new SerializedString("name");
+  private static final SerializableString DESCRIPTION = new SerializedString("description");
+  private static final SerializableString TECHNOLOGIES = new SerializedString("technologies");
+  private static final SerializableString DEGRADED = new SerializedString("degraded");
+  private static final SerializableString CAPACITIES = new SerializedString("capacities");
+  private static final SerializableString FILTER = new SerializedString("filter");
+  private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+  private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+  private static final SerializableString PAGE = new SerializedString("page");
+  private static final SerializableString SIZE = new SerializedString("size");
+  private static final SerializableString SORT_BY = new SerializedString("sortBy");
+  private static final SerializableString ORDER = new SerializedString("order");
+  private static final SerializableString NEXT_CURSOR = new SerializedString("nextCursor");
+  private static final SerializableString MISSING_IDS = new SerializedString("missingIds");
+
+  private CapacityJsonWriter() {
+  }
+
+  static boolean supports(Object value) {
+    return value instanceof CapacityResponse
+      || value instanceof GetCapacitiesResponse
+      || value instanceof SearchCapacitiesResponse
+      || value instanceof GetCapacitiesByIdsResponse
+      || value instanceof List<?> list && isCapacityList(list);
+  }
+
+  static boolean isCapacityList(List<?> list) {
+    for (Object element : list) {
+      if (!(element instanceof CapacityResponse)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  static void write(JsonGenerator generator, Object value) throws IOException {
+    switch (value) {
+      case CapacityResponse capacity -> writeCapacity(generator, capacity);
+      case GetCapacitiesResponse page -> writePage(generator, page);
+      case SearchCapacitiesResponse search -> writeSearch(generator, search);
+      case GetCapacitiesByIdsResponse byIds -> writeByIds(generator, byIds);
+      case List<?> capacities -> writeCapacities(generator, (List<CapacityResponse>) capacities);
+      default -> throw new IllegalArgumentException("Unsupported value: " + value.getClass().getName());
+    }
+  }
+
+  private static void writePage(JsonGenerator generator, GetCapacitiesResponse page) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(CAPACITIES);
+    writeCapacities(generator, page.getCapacities());
+    generator.writeFieldName(FILTER);
+    writeFilter(generator, page.getFilter());
+    generator.writeFieldName(TOTAL_ELEMENTS);
+    generator.writeNumber(page.getTotalElements());
+    generator.writeFieldName(TOTAL_PAGES);
+    generator.writeNumber(page.getTotalPages());
+    generator.writeEndObject();
+  }
+
+  private static void writeSearch(JsonGenerator generator, SearchCapacitiesResponse search) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(CAPACITIES);
+    writeCapacities(generator, search.getCapacities());
+    generator.writeFieldName(NEXT_CURSOR);
+    generator.writeString(search.getNextCursor());
+    generator.writeEndObject();
+  }
+
+  private static void writeByIds(JsonGenerator generator, GetCapacitiesByIdsResponse byIds) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(CAPACITIES);
+    writeCapacities(generator, byIds.getCapacities());
+    generator.writeFieldName(MISSING_IDS);
+    List<Long> missingIds = byIds.getMissingIds();
+    if (missingIds == null) {
+      generator.writeNull();
+    } else {
+      generator.writeStartArray();
+      for (Long id : missingIds) {
+        writeNumber(generator, id);
+      }
+      generator.writeEndArray();
+    }
+    generator.writeEndObject();
+  }
+
+  private static void writeCapacities(JsonGenerator generator, List<CapacityResponse> capacities) throws IOException {
+    if (capacities == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartArray();
+    for (CapacityResponse capacity : capacities) {
+      writeCapacity(generator, capacity);
+    }
+    generator.writeEndArray();
+  }
+
+  private static void writeCapacity(JsonGenerator generator, CapacityResponse capacity) throws IOException {
+    if (capacity == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject();
+    generator.writeFieldName(CAPACITY_ID);
+    writeNumber(generator, capacity.getCapacityId());
+    generator.writeFieldName(NAME);
+    generator.writeString(capacity.getName());
+    generator.writeFieldName(DESCRIPTION);
+    generator.writeString(capacity.getDescription());
+    generator.writeFieldName(TECHNOLOGIES);
+    List<TechnologyResponse> technologies = capacity.getTechnologies();
+    if (technologies == null) {
+      generator.writeNull();
+    } else {
+      generator.writeStartArray();
+      for (TechnologyResponse technology : technologies) {
+        writeTechnology(generator, technology);
+      }
+      generator.writeEndArray();
+    }
+    generator.writeFieldName(DEGRADED);
+    generator.writeBoolean(capacity.isDegraded());
+    generator.writeEndObject();
+  }
+
+  private static void writeTechnology(JsonGenerator generator, TechnologyResponse technology) throws IOException {
+    if (technology == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject();
+    generator.writeFieldName(TECHNOLOGY_ID);
+    writeNumber(generator, technology.getTechnologyId());
+    generator.writeFieldName(NAME);
+    generator.writeString(technology.getName());
+    generator.writeFieldName(DESCRIPTION);
+    generator.writeString(technology.getDescription());
+    generator.writeEndObject();
+  }
+
+  private static void writeFilter(JsonGenerator generator, FilterResponse filter) throws IOException {
+    if (filter == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject();
+    generator.writeFieldName(PAGE);
+    generator.writeNumber(filter.getPage());
+    generator.writeFieldName(SIZE);
+    generator.writeNumber(filter.getSize());
+    generator.writeFieldName(SORT_BY);
+    generator.writeString(filter.getSortBy());
+    generator.writeFieldName(ORDER);
+    generator.writeString(filter.getOrder());
+    generator.writeEndObject();
+  }
+
+  private static void writeNumber(JsonGenerator generator, Long value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else {
+      generator.writeNumber(value);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesByIdsResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
+import co.com.bancolombia.usecase.response.SearchCapacitiesResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the capacity responses with {@link CapacityJsonWriter} straight into a buffer from the exchange's
+ * factory, which on Netty is pooled. A list is only known to hold capacities once it is seen, so lists of anything
+ * else, and streams, go to the Jackson encoder.
+ */
+public class CapacityResponseEncoder implements Encoder<Object> {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+  private static final List<Class<?>> RESPONSE_TYPES = List.of(CapacityResponse.class, GetCapacitiesResponse.class,
+    SearchCapacitiesResponse.class, GetCapacitiesByIdsResponse.class);
+  private static final int BYTES_PER_CAPACITY = 256;
+
+  private final Encoder<Object> fallback;
+
+  public CapacityResponseEncoder(Encoder<Object> fallback) {
+    this.fallback = fallback;
+  }
+
+  @Override
+  public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+    if (!isJson(mimeType)) {
+      return false;
+    }
+    Class<?> type = elementType.toClass();
+    if (RESPONSE_TYPES.stream().anyMatch(responseType -> responseType.isAssignableFrom(type))) {
+      return true;
+    }
+    if (!List.class.isAssignableFrom(type)) {
+      return false;
+    }
+    // bodyValue(list) carries no element type; the elements are checked in encodeValue
+    Class<?> element = elementType.asCollection().getGeneric().toClass();
+    return element == Object.class || CapacityResponse.class.isAssignableFrom(element);
+  }
+
+  @Override
+  public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                 ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+    if (inputStream instanceof Mono<?> mono) {
+      return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+    }
+    return fallback.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+  }
+
+  @Override
+  public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                MimeType mimeType, Map<String, Object> hints) {
+    if (!CapacityJsonWriter.supports(value)) {
+      return fallback.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+    }
+
+    DataBuffer buffer = bufferFactory.allocateBuffer(estimateSize(value));
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer.asOutputStream(), JsonEncoding.UTF8)) {
+      CapacityJsonWriter.write(generator, value);
+    } catch (IOException | RuntimeException e) {
+      DataBufferUtils.release(buffer);
+      throw new EncodingException("Could not write JSON for " + value.getClass().getSimpleName(), e);
+    }
+    return buffer;
+  }
+
+  @Override
+  public List<MimeType> getEncodableMimeTypes() {
+    return MIME_TYPES;
+  }
+
+  private static boolean isJson(MimeType mimeType) {
+    return mimeType == null || MIME_TYPES.stream().anyMatch(supported -> supported.isCompatibleWith(mimeType));
+  }
+
+  private static int estimateSize(Object value) {
+    int capacities = switch (value) {
+      case GetCapacitiesResponse page -> sizeOf(page.getCapacities());
+      case SearchCapacitiesResponse search -> sizeOf(search.getCapacities());
+      case GetCapacitiesByIdsResponse byIds -> sizeOf(byIds.getCapacities());
+      case List<?> list -> list.size();
+      default -> 1;
+    };
+    return BYTES_PER_CAPACITY * Math.max(capacities, 1);
+  }
+
+  private static int sizeOf(List<?> list) {
+    return list == null ? 0 : list.size();
+  }
+}
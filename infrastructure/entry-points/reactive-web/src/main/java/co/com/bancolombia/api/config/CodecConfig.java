@@ -0,0 +1,19 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.api.codec.CapacityResponseEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+@Configuration
+public class CodecConfig {
+
+  // Custom writers are tried before the default Jackson one, which stays in place for every other type
+  @Bean
+  CodecCustomizer capacityResponseCodecCustomizer(ObjectMapper objectMapper) {
+    CapacityResponseEncoder encoder = new CapacityResponseEncoder(new Jackson2JsonEncoder(objectMapper));
+    return configurer -> configurer.customCodecs().register(encoder);
+  }
+}
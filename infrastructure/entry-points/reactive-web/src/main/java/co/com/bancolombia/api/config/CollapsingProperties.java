@@ -0,0 +1,16 @@
+package co.com.bancolombia.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "entrypoint.collapsing")
+public class CollapsingProperties {
+  private boolean enabled = true;
+  private int maxWaiters = 256;
+  private Duration deadlineBucket = Duration.ofMillis(100);
+}
@@ -0,0 +1,59 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts responses by the content encoding applied to them. Compression itself is done by the server as configured
+ * under {@code server.compression}; the encoding it picks is only on the response headers once the body has been
+ * written, so the count is taken when the exchange completes. The body is counted as it streams, never buffered.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CompressionMetricsFilter implements WebFilter {
+  private static final String IDENTITY = "identity";
+  private static final String RESPONSES_METRIC = "http.server.compression.responses";
+  private static final String ORIGINAL_BYTES_METRIC = "http.server.compression.original.bytes";
+  private static final String ENCODING_TAG = "encoding";
+
+  private final MeterRegistry meterRegistry;
+
+  public CompressionMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    AtomicLong written = new AtomicLong();
+    ServerHttpResponse counting = new ServerHttpResponseDecorator(exchange.getResponse()) {
+      @Override
+      public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        return super.writeWith(Flux.from(body).doOnNext(buffer -> written.addAndGet(buffer.readableByteCount())));
+      }
+    };
+
+    return chain.filter(exchange.mutate().response(counting).build())
+      .doOnSuccess(ignored -> {
+        if (written.get() > 0) {
+          String encoding = exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+          String tag = encoding == null ? IDENTITY : encoding;
+          meterRegistry.summary(ORIGINAL_BYTES_METRIC, ENCODING_TAG, tag).record(written.get());
+          meterRegistry.counter(RESPONSES_METRIC, ENCODING_TAG, tag).increment();
+        }
+      });
+  }
+}
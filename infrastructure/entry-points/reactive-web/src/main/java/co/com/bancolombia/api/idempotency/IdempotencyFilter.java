@@ -0,0 +1,237 @@
+package co.com.bancolombia.api.idempotency;
+
+import co.com.bancolombia.api.response.ErrorBodyCache;
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.IdempotentResponse;
+import co.com.bancolombia.usecase.IdempotentRequestUseCase;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs a POST that carries an {@code Idempotency-Key} at most once and answers its retries with the stored
+ * response. Retries are served from the front cache, then by attaching to an execution still running on this
+ * instance, and finally from the database, whose claim also covers executions running on other instances.
+ * It runs innermost so it stores the response exactly as the handler wrote it.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class IdempotencyFilter implements WebFilter {
+  static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  static final String INVALID_KEY_MESSAGE = "The Idempotency-Key header should have between 1 and 255 characters.";
+  static final String BODY_TOO_LARGE_MESSAGE = "The request body is too large to be handled idempotently.";
+  private static final int MAX_KEY_LENGTH = 255;
+  private static final String VALIDATION_ERROR_TEXT = "VALIDATION_ERROR";
+  private static final String BUSINESS_ERROR_TEXT = "BUSINESS_ERROR";
+  private static final ErrorBodyCache ERROR_BODIES = new ErrorBodyCache(Map.of(
+    VALIDATION_ERROR_TEXT, List.of(INVALID_KEY_MESSAGE, BODY_TOO_LARGE_MESSAGE),
+    BUSINESS_ERROR_TEXT, List.of(IdempotentRequestUseCase.KEY_REUSED_MESSAGE,
+      IdempotentRequestUseCase.REQUEST_IN_PROGRESS_MESSAGE)));
+
+  private final IdempotentRequestUseCase idempotentRequestUseCase;
+  private final IdempotencyProperties properties;
+  private final IdempotencyFrontCache frontCache;
+  private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+  public IdempotencyFilter(IdempotentRequestUseCase idempotentRequestUseCase, IdempotencyProperties properties) {
+    this.idempotentRequestUseCase = idempotentRequestUseCase;
+    this.properties = properties;
+    this.frontCache = new IdempotencyFrontCache(properties.getCacheSize(), properties.getRetention());
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    ServerHttpRequest request = exchange.getRequest();
+    String key = request.getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+    if (key == null || !properties.isEnabled() || !HttpMethod.POST.equals(request.getMethod())
+      || !properties.getPaths().contains(request.getPath().pathWithinApplication().value())) {
+      return chain.filter(exchange);
+    }
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      return writeError(exchange, HttpStatus.BAD_REQUEST, VALIDATION_ERROR_TEXT, INVALID_KEY_MESSAGE);
+    }
+
+    // The body is held in memory for the fingerprint and the replay of the request, so its size is capped
+    return DataBufferUtils.join(request.getBody(), (int) properties.getMaxBodySize().toBytes())
+      .map(IdempotencyFilter::toBytes)
+      .defaultIfEmpty(new byte[0])
+      .flatMap(body -> handle(exchange, chain, key, body))
+      .onErrorResume(DataBufferLimitException.class,
+        error -> writeError(exchange, HttpStatus.PAYLOAD_TOO_LARGE, VALIDATION_ERROR_TEXT, BODY_TOO_LARGE_MESSAGE));
+  }
+
+  private Mono<Void> handle(ServerWebExchange exchange, WebFilterChain chain, String key, byte[] body) {
+    String fingerprint = fingerprint(exchange.getRequest(), body);
+    IdempotencyRecord cached = frontCache.get(key);
+    if (cached != null) {
+      return cached.getFingerprint().equals(fingerprint)
+        ? replay(exchange, cached.getResponse())
+        : writeBusinessError(exchange, IdempotentRequestUseCase.KEY_REUSED_MESSAGE);
+    }
+
+    InFlight current = new InFlight(fingerprint);
+    InFlight running = inFlight.putIfAbsent(key, current);
+    if (running != null) {
+      if (!running.fingerprint.equals(fingerprint)) {
+        return writeBusinessError(exchange, IdempotentRequestUseCase.KEY_REUSED_MESSAGE);
+      }
+      return running.outcome.asMono()
+        .flatMap(response -> replay(exchange, response))
+        .onErrorResume(BussinessException.class, error -> writeBusinessError(exchange, error.getMessage()));
+    }
+
+    AtomicBoolean executed = new AtomicBoolean();
+    Mono<IdempotentResponse> action = Mono.defer(() -> {
+      executed.set(true);
+      return execute(exchange, chain, body);
+    });
+
+    return idempotentRequestUseCase.execute(key, fingerprint, action)
+      .doOnNext(response -> {
+        if (!response.isServerError()) {
+          frontCache.put(new IdempotencyRecord(key, fingerprint, response));
+        }
+        current.outcome.tryEmitValue(response);
+      })
+      .doOnError(current.outcome::tryEmitError)
+      .doFinally(signal -> {
+        inFlight.remove(key, current);
+        current.outcome.tryEmitError(new BussinessException(IdempotentRequestUseCase.REQUEST_IN_PROGRESS_MESSAGE));
+      })
+      .flatMap(response -> executed.get() ? Mono.<Void>empty() : replay(exchange, response))
+      .onErrorResume(error -> !executed.get() && error instanceof BussinessException,
+        error -> writeBusinessError(exchange, error.getMessage()));
+  }
+
+  private Mono<IdempotentResponse> execute(ServerWebExchange exchange, WebFilterChain chain, byte[] body) {
+    ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+      @Override
+      public Flux<DataBuffer> getBody() {
+        return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+      }
+    };
+    CapturingResponse response = new CapturingResponse(exchange.getResponse());
+
+    return chain.filter(exchange.mutate().request(request).response(response).build())
+      .then(Mono.fromSupplier(() -> response.captured));
+  }
+
+  private static Mono<Void> replay(ServerWebExchange exchange, IdempotentResponse stored) {
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(HttpStatusCode.valueOf(stored.getStatusCode()));
+    HttpHeaders headers = response.getHeaders();
+    if (stored.getContentType() != null) {
+      headers.set(HttpHeaders.CONTENT_TYPE, stored.getContentType());
+    }
+    headers.set(REPLAYED_HEADER, "true");
+    headers.setContentLength(stored.getBody().length);
+    return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(stored.getBody())));
+  }
+
+  private static Mono<Void> writeBusinessError(ServerWebExchange exchange, String message) {
+    HttpStatus status = IdempotentRequestUseCase.KEY_REUSED_MESSAGE.equals(message)
+      ? HttpStatus.UNPROCESSABLE_ENTITY
+      : HttpStatus.CONFLICT;
+    return writeError(exchange, status, BUSINESS_ERROR_TEXT, message);
+  }
+
+  private static Mono<Void> writeError(ServerWebExchange exchange, HttpStatus status, String error, String message) {
+    byte[] body = ERROR_BODIES.body(error, message);
+    return replay(exchange, new IdempotentResponse(status.value(), MediaType.APPLICATION_JSON_VALUE, body));
+  }
+
+  // The method and path are part of the fingerprint, so a key reused on another route is rejected
+  private static String fingerprint(ServerHttpRequest request, byte[] body) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update((request.getMethod().name() + ' ' + request.getPath().pathWithinApplication().value() + '\n')
+        .getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest(body));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] toBytes(DataBuffer buffer) {
+    try {
+      byte[] bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      return bytes;
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+
+  private static final class InFlight {
+    private final String fingerprint;
+    private final Sinks.One<IdempotentResponse> outcome = Sinks.one();
+
+    private InFlight(String fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+  }
+
+  private static final class CapturingResponse extends ServerHttpResponseDecorator {
+    private volatile IdempotentResponse captured;
+
+    private CapturingResponse(ServerHttpResponse delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      return DataBufferUtils.join(body)
+        .map(IdempotencyFilter::toBytes)
+        .defaultIfEmpty(new byte[0])
+        .flatMap(bytes -> {
+          capture(bytes);
+          return super.writeWith(Mono.fromSupplier(() -> bufferFactory().wrap(bytes)));
+        });
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+      if (captured == null) {
+        capture(new byte[0]);
+      }
+      return super.setComplete();
+    }
+
+    private void capture(byte[] body) {
+      HttpStatusCode status = getStatusCode();
+      MediaType contentType = getHeaders().getContentType();
+      captured = new IdempotentResponse(status == null ? HttpStatus.OK.value() : status.value(),
+        contentType == null ? null : contentType.toString(), body);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package co.com.bancolombia.api.idempotency;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used copy of the completed records this instance has seen, so retry storms are answered
+ * without a database round trip. Entries are dropped after the retention the database keeps them for.
+ */
+class IdempotencyFrontCache {
+  private final long retentionNanos;
+  private final Map<String, Entry> entries;
+
+  IdempotencyFrontCache(int maxSize, Duration retention) {
+    this.retentionNanos = retention.toNanos();
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  synchronized IdempotencyRecord get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (System.nanoTime() - entry.storedAt > retentionNanos) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.record;
+  }
+
+  synchronized void put(IdempotencyRecord record) {
+    entries.put(record.getKey(), new Entry(record, System.nanoTime()));
+  }
+
+  private static final class Entry {
+    private final IdempotencyRecord record;
+    private final long storedAt;
+
+    private Entry(IdempotencyRecord record, long storedAt) {
+      this.record = record;
+      this.storedAt = storedAt;
+    }
+  }
+}
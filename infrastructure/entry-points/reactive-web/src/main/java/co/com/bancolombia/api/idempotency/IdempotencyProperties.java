@@ -0,0 +1,20 @@
+package co.com.bancolombia.api.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "entrypoint.idempotency")
+public class IdempotencyProperties {
+  private boolean enabled = true;
+  private List<String> paths = List.of("/v1/api/capacity", "/v1/api/capacity/associate");
+  private Duration retention = Duration.ofHours(24);
+  private int cacheSize = 10_000;
+  private DataSize maxBodySize = DataSize.ofKilobytes(256);
+}
@@ -0,0 +1,44 @@
+package co.com.bancolombia.api.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON bodies of {@link ErrorResponse} encoded once for the fixed messages of the use cases, so repeated
+ * expected failures are written without building and serializing a new response. Other messages, such as those
+ * that carry an id, are encoded on each call.
+ */
+public final class ErrorBodyCache {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final Map<String, Map<String, byte[]>> bodies;
+
+  public ErrorBodyCache(Map<String, List<String>> fixedMessages) {
+    Map<String, Map<String, byte[]>> encoded = new HashMap<>();
+    fixedMessages.forEach((error, messages) -> {
+      Map<String, byte[]> byMessage = new HashMap<>();
+      messages.forEach(message -> byMessage.put(message, encode(error, message)));
+      encoded.put(error, Map.copyOf(byMessage));
+    });
+    this.bodies = Map.copyOf(encoded);
+  }
+
+  public byte[] body(String error, String message) {
+    Map<String, byte[]> byMessage = bodies.get(error);
+    byte[] body = byMessage == null || message == null ? null : byMessage.get(message);
+    return body != null ? body : encode(error, message);
+  }
+
+  private static byte[] encode(String error, String message) {
+    try {
+      return OBJECT_MAPPER.writeValueAsBytes(new ErrorResponse(error, message));
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package co.com.bancolombia.api.validation;
+
+import java.util.List;
+
+public class RequestValidationException extends RuntimeException {
+  private final transient List<String> violations;
+
+  public RequestValidationException(List<String> violations) {
+    super(String.join(", ", violations), null, false, false);
+    this.violations = violations;
+  }
+
+  public List<String> getViolations() {
+    return violations;
+  }
+}
@@ -0,0 +1,78 @@
+package co.com.bancolombia.api.validation;
+
+import co.com.bancolombia.api.request.AssociateCapacityWithBootcampRequest;
+import co.com.bancolombia.api.request.CreateCapacityRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-compiled form of the Jakarta constraints declared on the request classes. Each constraint is checked once,
+ * in declaration order, with the same message as its annotation; valid requests allocate nothing.
+ * Keep it in sync with the annotations, which still document the contract in the OpenAPI spec.
+ */
+public final class RequestValidator {
+  static final String NAME_REQUIRED_MESSAGE = "Capacity name is required";
+  static final String NAME_EMPTY_MESSAGE = "Capacity name cannot be empty";
+  static final String TECHNOLOGY_NAMES_REQUIRED_MESSAGE = "Technology names are required";
+  static final String CAPACITY_ID_REQUIRED_MESSAGE = "Capacity id is required";
+  static final String CAPACITY_ID_POSITIVE_MESSAGE = "The capacity id should be positive";
+  static final String BOOTCAMP_ID_REQUIRED_MESSAGE = "Bootcamp id is required";
+  static final String BOOTCAMP_ID_POSITIVE_MESSAGE = "The bootcamp id should be positive";
+
+  private RequestValidator() {
+  }
+
+  public static void validate(CreateCapacityRequest request) {
+    List<String> violations = null;
+    violations = notNull(violations, request.getName(), NAME_REQUIRED_MESSAGE);
+    violations = notBlank(violations, request.getName(), NAME_EMPTY_MESSAGE);
+    // The description constraints reuse the name messages on the annotations too
+    violations = notNull(violations, request.getDescription(), NAME_REQUIRED_MESSAGE);
+    violations = notBlank(violations, request.getDescription(), NAME_EMPTY_MESSAGE);
+    violations = notNull(violations, request.getTechnologyNames(), TECHNOLOGY_NAMES_REQUIRED_MESSAGE);
+    throwIfAny(violations);
+  }
+
+  public static void validate(AssociateCapacityWithBootcampRequest request) {
+    List<String> violations = null;
+    violations = notNull(violations, request.getCapacityId(), CAPACITY_ID_REQUIRED_MESSAGE);
+    violations = positive(violations, request.getCapacityId(), CAPACITY_ID_POSITIVE_MESSAGE);
+    violations = notNull(violations, request.getBootcampId(), BOOTCAMP_ID_REQUIRED_MESSAGE);
+    violations = positive(violations, request.getBootcampId(), BOOTCAMP_ID_POSITIVE_MESSAGE);
+    throwIfAny(violations);
+  }
+
+  private static List<String> notNull(List<String> violations, Object value, String message) {
+    return value == null ? add(violations, message) : violations;
+  }
+
+  // Same rule as @NotBlank: null, or only characters up to U+0020 (what String.trim() strips)
+  private static List<String> notBlank(List<String> violations, String value, String message) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        if (value.charAt(i) > ' ') {
+          return violations;
+        }
+      }
+    }
+    return add(violations, message);
+  }
+
+  // Same rule as @Positive: null is valid and left to @NotNull
+  private static List<String> positive(List<String> violations, Long value, String message) {
+    return value != null && value <= 0 ? add(violations, message) : violations;
+  }
+
+  private static List<String> add(List<String> violations, String message) {
+    List<String> result = violations == null ? new ArrayList<>(2) : violations;
+    result.add(message);
+    return result;
+  }
+
+  private static void throwIfAny(List<String> violations) {
+    if (violations != null) {
+      throw new RequestValidationException(violations);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package co.com.bancolombia.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+class ExpectedErrorLogTest {
+
+  @Test
+  @DisplayName("Should log a repeated message once per interval and report how many were dropped")
+  void shouldLogRepeatedMessageOncePerInterval() throws InterruptedException {
+    // Arrange
+    Logger logger = mock(Logger.class);
+    ExpectedErrorLog expectedErrorLog = new ExpectedErrorLog(logger, Duration.ofMillis(200), 10);
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      expectedErrorLog.warn("Business", "The capacity name cannot be duplicated.");
+    }
+    Thread.sleep(250);
+    expectedErrorLog.warn("Business", "The capacity name cannot be duplicated.");
+
+    // Assert
+    verify(logger).warn("{} error: {}", "Business", "The capacity name cannot be duplicated.");
+    verify(logger).warn("{} error: {} ({} more since last logged)", "Business",
+      "The capacity name cannot be duplicated.", 4L);
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  @DisplayName("Should log every occurrence once too many distinct messages are tracked")
+  void shouldLogEveryOccurrencePastTrackingLimit() {
+    // Arrange
+    Logger logger = mock(Logger.class);
+    ExpectedErrorLog expectedErrorLog = new ExpectedErrorLog(logger, Duration.ofMinutes(1), 1);
+
+    // Act
+    expectedErrorLog.warn("Business", "Bootcamp has not been found. Bootcamp id: 1");
+    expectedErrorLog.warn("Business", "Bootcamp has not been found. Bootcamp id: 2");
+    expectedErrorLog.warn("Business", "Bootcamp has not been found. Bootcamp id: 2");
+
+    // Assert
+    verify(logger).warn("{} error: {}", "Business", "Bootcamp has not been found. Bootcamp id: 1");
+    verify(logger, times(2)).warn("{} error: {}", "Business", "Bootcamp has not been found. Bootcamp id: 2");
+  }
+}
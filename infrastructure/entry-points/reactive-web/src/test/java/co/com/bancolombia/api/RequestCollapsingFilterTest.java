@@ -0,0 +1,169 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.config.CollapsingProperties;
+import co.com.bancolombia.model.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCollapsingFilterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private CollapsingProperties properties;
+  private Sinks.Empty<Void> gate;
+  private AtomicInteger executions;
+  private AtomicBoolean cancelled;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new CollapsingProperties();
+    gate = Sinks.empty();
+    executions = new AtomicInteger();
+    cancelled = new AtomicBoolean();
+  }
+
+  @Test
+  @DisplayName("Should run identical concurrent requests once and give every caller the same response")
+  void shouldShareOneExecutionAmongIdenticalRequests() {
+    // Arrange
+    RequestCollapsingFilter filter = new RequestCollapsingFilter(properties, meterRegistry);
+    List<ServerResponse> responses = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      filter.filter(request("/v1/api/capacity/bootcamp/100"), gated()).subscribe(responses::add);
+    }
+    gate.tryEmitEmpty();
+
+    // Assert
+    assertEquals(1, executions.get());
+    assertEquals(5, responses.size());
+    assertTrue(responses.stream().allMatch(response -> response == responses.get(0)));
+    assertEquals(1.0, meterRegistry.get("http.server.collapsing.requests").tag("role", "leader").counter().count());
+    assertEquals(4.0, meterRegistry.get("http.server.collapsing.requests").tag("role", "follower").counter().count());
+    assertEquals(0.0, meterRegistry.get("http.server.collapsing.inflight").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Should run requests past the waiter limit or with another query on their own")
+  void shouldRunOverflowAndDifferentQueriesOnTheirOwn() {
+    // Arrange
+    properties.setMaxWaiters(1);
+    RequestCollapsingFilter filter = new RequestCollapsingFilter(properties, meterRegistry);
+
+    // Act
+    filter.filter(request("/v1/api/capacity/bootcamp/100"), gated()).subscribe();
+    filter.filter(request("/v1/api/capacity/bootcamp/100"), gated()).subscribe();
+    filter.filter(request("/v1/api/capacity/bootcamp/100"), gated()).subscribe();
+    filter.filter(request("/v1/api/capacity/bootcamp/100?fields=name"), gated()).subscribe();
+    gate.tryEmitEmpty();
+
+    // Assert
+    assertEquals(3, executions.get());
+    assertEquals(1.0, meterRegistry.get("http.server.collapsing.requests").tag("role", "overflow").counter().count());
+  }
+
+  @Test
+  @DisplayName("Should cancel the shared execution only when every waiter has gone away")
+  void shouldCancelExecutionWhenEveryWaiterLeaves() {
+    // Arrange
+    RequestCollapsingFilter filter = new RequestCollapsingFilter(properties, meterRegistry);
+    Disposable first = filter.filter(request("/v1/api/capacity/bootcamp/100"), gated()).subscribe();
+    Disposable second = filter.filter(request("/v1/api/capacity/bootcamp/100"), gated()).subscribe();
+
+    // Act & Assert
+    first.dispose();
+    assertFalse(cancelled.get());
+    second.dispose();
+    assertTrue(cancelled.get());
+    assertEquals(0.0, meterRegistry.get("http.server.collapsing.inflight").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Should collapse requests whose deadlines end in the same bucket")
+  void shouldCollapseRequestsWithDeadlinesInTheSameBucket() {
+    // Arrange
+    properties.setDeadlineBucket(Duration.ofHours(1));
+    RequestCollapsingFilter filter = new RequestCollapsingFilter(properties, meterRegistry);
+    RequestDeadlineFilter deadlineFilter = RequestDeadlineFilter.withDefault(Duration.ofSeconds(3));
+    List<ServerResponse> responses = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 3; i++) {
+      deadlineFilter.filter(request("/v1/api/capacity/bootcamp/100"), request -> filter.filter(request, deadlineBound()))
+        .subscribe(responses::add);
+    }
+    gate.tryEmitEmpty();
+
+    // Assert
+    assertEquals(1, executions.get());
+    assertEquals(3, responses.size());
+  }
+
+  @Test
+  @DisplayName("Should give a late follower its own deadline instead of the leader's timeout")
+  void shouldNotFailLateFollowerWithLeaderDeadline() throws Exception {
+    // Arrange
+    RequestCollapsingFilter filter = new RequestCollapsingFilter(properties, meterRegistry);
+    RequestDeadlineFilter deadlineFilter = RequestDeadlineFilter.withDefault(Duration.ofSeconds(1));
+
+    // Act
+    CompletableFuture<ServerResponse> leader = deadlineFilter
+      .filter(request("/v1/api/capacity/bootcamp/100"), request -> filter.filter(request, deadlineBound()))
+      .toFuture();
+    Thread.sleep(600);
+    CompletableFuture<ServerResponse> follower = deadlineFilter
+      .filter(request("/v1/api/capacity/bootcamp/100"), request -> filter.filter(request, deadlineBound()))
+      .toFuture();
+    Thread.sleep(600);
+    gate.tryEmitEmpty();
+
+    // Assert
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT, leader.get(2, TimeUnit.SECONDS).statusCode());
+    assertEquals(HttpStatus.OK, follower.get(2, TimeUnit.SECONDS).statusCode());
+    assertEquals(2, executions.get());
+  }
+
+  private static ServerRequest request(String uri) {
+    return MockServerRequest.builder()
+      .method(HttpMethod.GET)
+      .uri(URI.create("http://localhost" + uri))
+      .build();
+  }
+
+  private HandlerFunction<ServerResponse> gated() {
+    return request -> gate.asMono()
+      .then(Mono.defer(() -> ServerResponse.ok().bodyValue(List.of())))
+      .doOnSubscribe(subscription -> executions.incrementAndGet())
+      .doOnCancel(() -> cancelled.set(true));
+  }
+
+  // Waits for the gate under the deadline in the context, like the adapters do
+  private HandlerFunction<ServerResponse> deadlineBound() {
+    return request -> RequestDeadline.bound(gate.asMono())
+      .then(Mono.defer(() -> ServerResponse.ok().bodyValue(List.of())))
+      .doOnSubscribe(subscription -> executions.incrementAndGet());
+  }
+}
@@ -1,43 +1,67 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.config.CollapsingProperties;
 import co.com.bancolombia.api.request.AssociateCapacityWithBootcampRequest;
 import co.com.bancolombia.api.request.CreateCapacityRequest;
 import co.com.bancolombia.model.capacity.Capacity;
 import co.com.bancolombia.model.capacity.Technology;
 import co.com.bancolombia.model.capacity.gateway.CapacityGateway;
 import co.com.bancolombia.model.capacity.gateway.TechnologyGateway;
+import co.com.bancolombia.model.deadline.RequestDeadline;
 import co.com.bancolombia.model.capacity.values.Description;
 import co.com.bancolombia.model.capacity.values.Id;
 import co.com.bancolombia.model.capacity.values.Name;
 import co.com.bancolombia.usecase.AssociateCapacityWithBootcampUseCase;
+import co.com.bancolombia.usecase.CreateCapacitiesBulkUseCase;
 import co.com.bancolombia.usecase.CreateCapacityUseCase;
 import co.com.bancolombia.usecase.DeleteCapacityUseCase;
 import co.com.bancolombia.usecase.GetCapacityUseCase;
 import co.com.bancolombia.usecase.GetAllCapacityIdsUseCase;
+import co.com.bancolombia.usecase.GetCapacitiesByIdsUseCase;
 import co.com.bancolombia.usecase.GetCapacityByBootcampUseCase;
+import co.com.bancolombia.usecase.SearchCapacitiesUseCase;
+import co.com.bancolombia.usecase.StreamCapacityEventsUseCase;
 import co.com.bancolombia.usecase.exception.BussinessException;
 import co.com.bancolombia.usecase.response.AssociateCapacityWithBootcampResponse;
+import co.com.bancolombia.usecase.response.BulkCreateCapacitiesResponse;
+import co.com.bancolombia.usecase.response.BulkCreateCapacityItemResponse;
+import co.com.bancolombia.usecase.response.CapacityEventResponse;
 import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesByIdsResponse;
+import co.com.bancolombia.usecase.response.SearchCapacitiesResponse;
 import co.com.bancolombia.usecase.response.TechnologyResponse;
-import jakarta.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RouterRest Tests")
@@ -49,9 +73,6 @@ class RouterRestTest {
     @Mock
     private GetCapacityUseCase getCapacityUseCase;
 
-    @Mock
-    private Validator validator;
-
     @Mock
     private CapacityGateway capacityGateway;
 
@@ -70,18 +91,34 @@ class RouterRestTest {
     @Mock
     private DeleteCapacityUseCase deleteCapacityUseCase;
 
+    @Mock
+    private SearchCapacitiesUseCase searchCapacitiesUseCase;
+
+    @Mock
+    private CreateCapacitiesBulkUseCase createCapacitiesBulkUseCase;
+
+    @Mock
+    private GetCapacitiesByIdsUseCase getCapacitiesByIdsUseCase;
+
+    @Mock
+    private StreamCapacityEventsUseCase streamCapacityEventsUseCase;
+
     private RouterRest routerRest;
     private WebTestClient webTestClient;
 
     @BeforeEach
     void setUp() {
         routerRest = new RouterRest();
-        Handler handler = new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator);
+        Handler handler = new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase);
         RouterFunction<ServerResponse> routerFunction = routerRest.createCapacityRoute(handler)
             .and(routerRest.getAllCapacitiesRoute(handler))
             .and(routerRest.getAllCapacityIdsRoute(handler))
             .and(routerRest.associateCapacityWithBootcampRoute(handler))
-            .and(routerRest.getCapacitiesByBootcampRoute(handler));
+            .and(routerRest.getCapacitiesByBootcampRoute(handler,
+                new RequestCollapsingFilter(new CollapsingProperties(), new SimpleMeterRegistry())))
+            .and(routerRest.searchCapacitiesRoute(handler))
+            .and(routerRest.createCapacitiesBulkRoute(handler))
+            .and(routerRest.streamCapacityEventsRoute(handler));
         webTestClient = WebTestClient.bindToRouterFunction(routerFunction).build();
     }
 
@@ -89,10 +126,10 @@ class RouterRestTest {
     @DisplayName("Should create router function with correct configuration")
     void shouldCreateRouterFunctionWithCorrectConfiguration() {
         // When
-        RouterFunction<ServerResponse> routerFunction = routerRest.createCapacityRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator))
-            .and(routerRest.getAllCapacitiesRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator)))
-            .and(routerRest.getAllCapacityIdsRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator)))
-            .and(routerRest.associateCapacityWithBootcampRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator)));
+        RouterFunction<ServerResponse> routerFunction = routerRest.createCapacityRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase))
+            .and(routerRest.getAllCapacitiesRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase)))
+            .and(routerRest.getAllCapacityIdsRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase)))
+            .and(routerRest.associateCapacityWithBootcampRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase)));
         // Then
         assert routerFunction != null;
     }
@@ -179,7 +216,7 @@ class RouterRestTest {
                 )
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response1, response2), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response1, response2), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 2L, 1)));
 
         // When & Then
         webTestClient
@@ -595,9 +632,9 @@ class RouterRestTest {
     @DisplayName("Should verify router function is properly configured")
     void shouldVerifyRouterFunctionIsProperlyConfigured() {
         // When
-        RouterFunction<ServerResponse> routerFunction = routerRest.createCapacityRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator))
-            .and(routerRest.getAllCapacitiesRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator)))
-            .and(routerRest.associateCapacityWithBootcampRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, validator)));
+        RouterFunction<ServerResponse> routerFunction = routerRest.createCapacityRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase))
+            .and(routerRest.getAllCapacitiesRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase)))
+            .and(routerRest.associateCapacityWithBootcampRoute(new Handler(createCapacityUseCase, getCapacityUseCase, associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase, deleteCapacityUseCase, searchCapacitiesUseCase, createCapacitiesBulkUseCase, getCapacitiesByIdsUseCase, streamCapacityEventsUseCase)));
 
         // Then
         assert routerFunction != null;
@@ -628,7 +665,7 @@ class RouterRestTest {
     @DisplayName("Should return empty list when no capacities exist")
     void shouldReturnEmptyListWhenNoCapacitiesExist() {
         // Given
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 0L, 0)));
 
         // When & Then
         webTestClient
@@ -661,7 +698,7 @@ class RouterRestTest {
                 )
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 1L, 1)));
 
         // When & Then
         webTestClient
@@ -726,7 +763,7 @@ class RouterRestTest {
                 )
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response1, response2, response3), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response1, response2, response3), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 3L, 1)));
 
         // When & Then
         webTestClient
@@ -761,7 +798,7 @@ class RouterRestTest {
                 List.of()
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 1L, 1)));
 
         // When & Then
         webTestClient
@@ -798,7 +835,7 @@ class RouterRestTest {
                 )
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 1L, 1)));
 
         // When & Then
         webTestClient
@@ -833,7 +870,7 @@ class RouterRestTest {
                 List.of(new TechnologyResponse(1L, "Java", "Java Programming Language"))
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 1L, 1)));
 
         // When & Then
         webTestClient
@@ -869,7 +906,7 @@ class RouterRestTest {
                 List.of(new TechnologyResponse(2L, "Python", "Python Programming Language"))
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response1, response2), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response1, response2), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 2L, 1)));
 
         // When & Then - Both requests should be handled
         webTestClient
@@ -890,7 +927,9 @@ class RouterRestTest {
                 .exchange()
                 .expectStatus().isOk()
                 .expectBody()
-                .jsonPath("$.length()").isEqualTo(2);
+                .jsonPath("$.length()").isEqualTo(4)
+                .jsonPath("$.totalElements").isEqualTo(2)
+                .jsonPath("$.totalPages").isEqualTo(1);
     }
 
     @Test
@@ -904,7 +943,7 @@ class RouterRestTest {
                 List.of(new TechnologyResponse(1L, "Java", "Java Programming Language"))
         );
 
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(response), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 1L, 1)));
 
         // When & Then
         webTestClient
@@ -928,7 +967,7 @@ class RouterRestTest {
     @DisplayName("Should handle business exception when retrieving capacities")
     void shouldHandleBusinessExceptionWhenRetrievingCapacities() {
         // Given
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.error(new BussinessException("No capacities found")));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.error(new BussinessException("No capacities found")));
 
         // When & Then
         webTestClient
@@ -946,7 +985,7 @@ class RouterRestTest {
     @DisplayName("Should handle domain exception when retrieving capacities")
     void shouldHandleDomainExceptionWhenRetrievingCapacities() {
         // Given
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.error(new RuntimeException("Database connection failed")));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.error(new RuntimeException("Database connection failed")));
 
         // When & Then
         webTestClient
@@ -964,7 +1003,7 @@ class RouterRestTest {
     @DisplayName("Should handle generic exception when retrieving capacities")
     void shouldHandleGenericExceptionWhenRetrievingCapacities() {
         // Given
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.error(new IllegalStateException("Unexpected error")));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.error(new IllegalStateException("Unexpected error")));
 
         // When & Then
         webTestClient
@@ -982,7 +1021,7 @@ class RouterRestTest {
     @DisplayName("Should handle empty response from use case")
     void shouldHandleEmptyResponseFromUseCase() {
         // Given
-        when(getCapacityUseCase.execute(0, 10, "name", "asc")).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"))));
+        when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(new co.com.bancolombia.usecase.response.GetCapacitiesResponse(List.of(), new co.com.bancolombia.usecase.response.FilterResponse(0, 10, "name", "asc"), 0L, 0)));
 
         // When & Then
         webTestClient
@@ -1068,7 +1107,7 @@ class RouterRestTest {
                 )
         );
 
-        when(getCapacityByBootcampUseCase.execute(bootcampId)).thenReturn(Flux.just(response1, response2));
+        when(getCapacityByBootcampUseCase.execute(bootcampId, true)).thenReturn(Flux.just(response1, response2));
 
         // When & Then
         webTestClient
@@ -1093,7 +1132,7 @@ class RouterRestTest {
     void getCapacitiesByBootcampShouldReturnEmptyList() {
         // Given
         Long bootcampId = 999L;
-        when(getCapacityByBootcampUseCase.execute(bootcampId)).thenReturn(Flux.empty());
+        when(getCapacityByBootcampUseCase.execute(bootcampId, true)).thenReturn(Flux.empty());
 
         // When & Then
         webTestClient
@@ -1112,7 +1151,7 @@ class RouterRestTest {
     void getCapacitiesByBootcampShouldReturn400OnBusinessError() {
         // Given
         Long bootcampId = 100L;
-        when(getCapacityByBootcampUseCase.execute(bootcampId)).thenReturn(Flux.error(new BussinessException("Bootcamp not found")));
+        when(getCapacityByBootcampUseCase.execute(bootcampId, true)).thenReturn(Flux.error(new BussinessException("Bootcamp not found")));
 
         // When & Then
         webTestClient
@@ -1131,7 +1170,7 @@ class RouterRestTest {
     void getCapacitiesByBootcampShouldReturn500OnInternalError() {
         // Given
         Long bootcampId = 100L;
-        when(getCapacityByBootcampUseCase.execute(bootcampId)).thenReturn(Flux.error(new RuntimeException("Database connection failed")));
+        when(getCapacityByBootcampUseCase.execute(bootcampId, true)).thenReturn(Flux.error(new RuntimeException("Database connection failed")));
 
         // When & Then
         webTestClient
@@ -1168,7 +1207,7 @@ class RouterRestTest {
                 List.of()
         );
 
-        when(getCapacityByBootcampUseCase.execute(bootcampId)).thenReturn(Flux.just(response));
+        when(getCapacityByBootcampUseCase.execute(bootcampId, true)).thenReturn(Flux.just(response));
 
         // When & Then
         webTestClient
@@ -1183,4 +1222,294 @@ class RouterRestTest {
                 .jsonPath("$[0].technologies").isArray()
                 .jsonPath("$[0].technologies.length()").isEqualTo(0);
     }
+
+    // ========== GET /v1/api/capacity/search Tests ==========
+
+    @Test
+    @DisplayName("GET /v1/api/capacity/search should return ranked capacities and next cursor")
+    void searchCapacitiesShouldReturn200() {
+        // Given
+        SearchCapacitiesResponse response = new SearchCapacitiesResponse(
+                List.of(new CapacityResponse(1L, "Payments Squad", "Handles payments", List.of())),
+                "next-cursor"
+        );
+        when(searchCapacitiesUseCase.execute("pay", "Java", null, 5, true)).thenReturn(Mono.just(response));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/search?q=pay&technology=Java&size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.capacities[0].capacityId").isEqualTo(1)
+                .jsonPath("$.nextCursor").isEqualTo("next-cursor");
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/capacity/search should not ask for technologies when fields leaves them out")
+    void searchCapacitiesShouldPassFieldsToUseCase() {
+        // Given
+        SearchCapacitiesResponse response = new SearchCapacitiesResponse(
+                List.of(new CapacityResponse(1L, "Payments Squad", "Handles payments", null)),
+                null
+        );
+        when(searchCapacitiesUseCase.execute("pay", null, null, 10, false)).thenReturn(Mono.just(response));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/search?q=pay&fields=capacityId,name")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.capacities[0].capacityId").isEqualTo(1);
+
+        verify(searchCapacitiesUseCase).execute("pay", null, null, 10, false);
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/capacity/search should return 400 on business error")
+    void searchCapacitiesShouldReturn400OnBusinessError() {
+        // Given
+        when(searchCapacitiesUseCase.execute("pa", null, null, 10, true))
+                .thenReturn(Mono.error(new BussinessException("The search text should have 3 characters minimum.")));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/search?q=pa")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("BUSINESS_ERROR")
+                .jsonPath("$.message").isEqualTo("The search text should have 3 characters minimum.");
+    }
+
+    @Test
+    @DisplayName("Should answer 504 when the caller's deadline passes before the handler finishes")
+    void shouldAnswerGatewayTimeoutWhenDeadlinePasses() {
+        // Given
+        when(getAllCapacityIdsUseCase.execute()).thenReturn(Flux.never());
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/ids")
+                .header("X-Request-Timeout", "50")
+                .exchange()
+                .expectStatus().isEqualTo(504)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("TIMEOUT_ERROR");
+    }
+
+    @Test
+    @DisplayName("Should expose the request deadline to the use case through the Reactor context")
+    void shouldExposeRequestDeadlineThroughReactorContext() {
+        // Given
+        when(getAllCapacityIdsUseCase.execute()).thenReturn(Flux.deferContextual(context -> Flux.just(
+            RequestDeadline.from(context).map(deadline -> deadline.remaining().toMillis()).orElse(-1L))));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/ids")
+                .header("X-Request-Timeout", "2500")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0]").value(remaining -> assertTrue(((Number) remaining).longValue() > 2000L
+                    && ((Number) remaining).longValue() <= 2500L));
+    }
+
+    @Test
+    @DisplayName("Should clamp the caller's timeout between the minimum budget and the route default")
+    void shouldClampRequestTimeoutToRouteBounds() {
+        // Given
+        when(getAllCapacityIdsUseCase.execute()).thenReturn(Flux.deferContextual(context -> Flux.just(
+            RequestDeadline.from(context).map(deadline -> deadline.remaining().toMillis()).orElse(-1L))));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/ids")
+                .header("X-Request-Timeout", "60000")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0]").value(remaining -> assertTrue(((Number) remaining).longValue() <= 3000L));
+
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/ids")
+                .header("X-Request-Timeout", "0")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0]").value(remaining -> assertTrue(((Number) remaining).longValue() >= 0L
+                    && ((Number) remaining).longValue() <= 100L));
+    }
+
+    @Test
+    @DisplayName("Should accept POST requests to /v1/api/capacity/bulk and return per-item results")
+    void shouldAcceptPostRequestsToBulkCapacityEndpoint() {
+        // Given
+        List<CreateCapacityRequest> request = List.of(
+                new CreateCapacityRequest("Backend", "Backend capacity", List.of("Java", "Spring", "PostgreSQL")),
+                new CreateCapacityRequest("Frontend", "Frontend capacity", List.of("Java")));
+
+        BulkCreateCapacitiesResponse response = new BulkCreateCapacitiesResponse(List.of(
+                BulkCreateCapacityItemResponse.created(0, new CapacityResponse(1L, "Backend", "Backend capacity", List.of())),
+                BulkCreateCapacityItemResponse.failed(1, "Frontend", "The capacity should have 3 technologies minimum.")));
+
+        when(createCapacitiesBulkUseCase.execute(anyList())).thenReturn(Mono.just(response));
+
+        // When & Then
+        webTestClient
+                .post()
+                .uri("/v1/api/capacity/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.created").isEqualTo(1)
+                .jsonPath("$.failed").isEqualTo(1)
+                .jsonPath("$.results[0].status").isEqualTo("CREATED")
+                .jsonPath("$.results[1].error").isEqualTo("The capacity should have 3 technologies minimum.");
+
+        verify(createCapacitiesBulkUseCase).execute(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stop decoding a bulk body one item past the maximum size")
+    void shouldStopDecodingBulkBodyPastMaximumSize() {
+        // Given
+        List<CreateCapacityRequest> request = IntStream.range(0, CreateCapacitiesBulkUseCase.MAX_BULK_SIZE * 3)
+                .mapToObj(index -> new CreateCapacityRequest("Capacity " + index, "Description", List.of("Java", "Spring", "PostgreSQL")))
+                .toList();
+
+        when(createCapacitiesBulkUseCase.execute(anyList()))
+                .thenReturn(Mono.error(new BussinessException("The bulk request should have between 1 and 100 capacities.")));
+
+        // When & Then
+        webTestClient
+                .post()
+                .uri("/v1/api/capacity/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(createCapacitiesBulkUseCase).execute(argThat(commands ->
+                commands.size() == CreateCapacitiesBulkUseCase.MAX_BULK_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Should route GET /v1/api/capacity with ids to the batch lookup")
+    void shouldRouteGetCapacityWithIdsToBatchLookup() {
+        // Given
+        GetCapacitiesByIdsResponse response = new GetCapacitiesByIdsResponse(
+                List.of(new CapacityResponse(3L, "Backend", "Backend capacity", List.of())),
+                List.of(9L));
+        when(getCapacitiesByIdsUseCase.execute(List.of(3L, 9L, 1L))).thenReturn(Mono.just(response));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity?ids=3,9&ids=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.capacities[0].capacityId").isEqualTo(3)
+                .jsonPath("$.missingIds[0]").isEqualTo(9);
+
+        verify(getCapacityUseCase, never()).execute(anyInt(), anyInt(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 when a batch id is not numeric")
+    void shouldAnswerBadRequestWhenBatchIdIsNotNumeric() {
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity?ids=3,abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("BUSINESS_ERROR")
+                .jsonPath("$.message").isEqualTo("The ids should be numeric.");
+    }
+
+    @Test
+    @DisplayName("Should skip technologies when fields does not request them")
+    void shouldSkipTechnologiesWhenFieldsDoesNotRequestThem() {
+        // Given
+        CapacityResponse response = new CapacityResponse(1L, "Backend", "Backend capacity", null);
+        when(getCapacityByBootcampUseCase.execute(100L, false)).thenReturn(Flux.just(response));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/bootcamp/100?fields=capacityId,name")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].capacityId").isEqualTo(1)
+                .jsonPath("$[0].technologies").isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should answer 400 when fields names an unknown field")
+    void shouldAnswerBadRequestWhenFieldsIsUnknown() {
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity?fields=name,bootcamps")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("BUSINESS_ERROR");
+
+        verify(getCapacityUseCase, never()).execute(anyInt(), anyInt(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should stream capacity events as SSE resuming from the Last-Event-ID header")
+    void shouldStreamCapacityEventsResumingFromLastEventId() {
+        // Given
+        when(streamCapacityEventsUseCase.execute(41L, 100L)).thenReturn(Flux.just(
+                new CapacityEventResponse(42L, "ASSOCIATION_ADDED", 1L, 100L, Instant.parse("2025-01-01T10:00:00Z"))));
+
+        // When & Then
+        List<ServerSentEvent<String>> events = webTestClient
+                .get()
+                .uri("/v1/api/capacity/events?bootcampId=100")
+                .header("Last-Event-ID", "41")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(1, events.size());
+        assertEquals("42", events.get(0).id());
+        assertEquals("ASSOCIATION_ADDED", events.get(0).event());
+        assertTrue(events.get(0).data().contains("\"capacityId\":1"));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 when the last event id is not numeric")
+    void shouldAnswerBadRequestWhenLastEventIdIsNotNumeric() {
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/v1/api/capacity/events?lastEventId=abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("The last event id and bootcamp id should be numeric.");
+    }
 }
@@ -0,0 +1,95 @@
+package co.com.bancolombia.api.codec;
+
+import co.com.bancolombia.usecase.response.CapacityEventResponse;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.FilterResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesByIdsResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
+import co.com.bancolombia.usecase.response.SearchCapacitiesResponse;
+import co.com.bancolombia.usecase.response.TechnologyResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapacityResponseEncoderTest {
+
+  private ObjectMapper objectMapper;
+  private CapacityResponseEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    encoder = new CapacityResponseEncoder(new Jackson2JsonEncoder(objectMapper));
+  }
+
+  @Test
+  @DisplayName("Should write the same JSON as Jackson for every capacity response")
+  void shouldWriteSameJsonAsJackson() throws Exception {
+    // Arrange
+    List<CapacityResponse> capacities = List.of(
+      new CapacityResponse(1L, "Payments \"Squad\"", "Pagos en línea ✓", List.of(
+        new TechnologyResponse(10L, "Java", "Java 21 LTS"),
+        new TechnologyResponse(null, "Spring\nBoot", null)), true),
+      new CapacityResponse(2L, "Frontend", "Web", null));
+    List<Object> responses = List.of(
+      capacities.get(0),
+      new GetCapacitiesResponse(capacities, new FilterResponse(0, 10, "name", "asc"), 2L, 1),
+      new GetCapacitiesResponse(List.of(), null, 0L, 0),
+      new SearchCapacitiesResponse(capacities, null),
+      new GetCapacitiesByIdsResponse(capacities, List.of(7L, 9L)),
+      new ArrayList<>(capacities),
+      Collections.emptyList());
+
+    for (Object response : responses) {
+      // Act
+      String written = encode(response);
+
+      // Assert
+      assertEquals(objectMapper.writeValueAsString(response), written, response.getClass().getSimpleName());
+    }
+  }
+
+  @Test
+  @DisplayName("Should hand lists of other values to the Jackson encoder")
+  void shouldHandOtherListsToJackson() {
+    // Act & Assert
+    assertEquals("[1,2,3]", encode(List.of(1L, 2L, 3L)));
+    assertTrue(encoder.canEncode(ResolvableType.forClass(ArrayList.class), MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  @DisplayName("Should only claim capacity responses written as JSON")
+  void shouldOnlyClaimCapacityResponsesAsJson() {
+    // Act & Assert
+    assertTrue(encoder.canEncode(ResolvableType.forClass(GetCapacitiesResponse.class), MediaType.APPLICATION_JSON));
+    assertTrue(encoder.canEncode(ResolvableType.forClass(CapacityResponse.class), null));
+    assertFalse(encoder.canEncode(ResolvableType.forClass(CapacityResponse.class), MediaType.TEXT_EVENT_STREAM));
+    assertFalse(encoder.canEncode(ResolvableType.forClass(CapacityEventResponse.class), MediaType.APPLICATION_JSON));
+    assertFalse(encoder.canEncode(ResolvableType.forClassWithGenerics(List.class, Long.class), MediaType.APPLICATION_JSON));
+  }
+
+  private String encode(Object value) {
+    DataBuffer buffer = encoder.encodeValue(value, DefaultDataBufferFactory.sharedInstance,
+      ResolvableType.forInstance(value), MediaType.APPLICATION_JSON, null);
+    try {
+      return buffer.toString(StandardCharsets.UTF_8);
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+}
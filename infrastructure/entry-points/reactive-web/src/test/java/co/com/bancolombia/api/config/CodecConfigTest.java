@@ -0,0 +1,41 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.api.codec.CapacityResponseEncoder;
+import co.com.bancolombia.usecase.response.CapacityEventResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecConfigTest {
+
+  @Test
+  @DisplayName("Should pick the capacity encoder before Jackson and leave other types to Jackson")
+  void shouldPickCapacityEncoderBeforeJackson() {
+    // Arrange
+    ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+    new CodecConfig().capacityResponseCodecCustomizer(Jackson2ObjectMapperBuilder.json().build()).customize(configurer);
+
+    // Act
+    HttpMessageWriter<?> capacities = firstWriterFor(configurer, GetCapacitiesResponse.class);
+    HttpMessageWriter<?> events = firstWriterFor(configurer, CapacityEventResponse.class);
+
+    // Assert
+    assertInstanceOf(CapacityResponseEncoder.class, ((EncoderHttpMessageWriter<?>) capacities).getEncoder());
+    assertFalse(((EncoderHttpMessageWriter<?>) events).getEncoder() instanceof CapacityResponseEncoder);
+  }
+
+  private static HttpMessageWriter<?> firstWriterFor(ServerCodecConfigurer configurer, Class<?> type) {
+    return configurer.getWriters().stream()
+      .filter(writer -> writer.canWrite(ResolvableType.forClass(type), MediaType.APPLICATION_JSON))
+      .findFirst()
+      .orElseThrow();
+  }
+}
@@ -0,0 +1,129 @@
+package co.com.bancolombia.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionMetricsFilterTest {
+
+  private static final String LARGE_BODY = "{\"capacities\":[" + "{\"name\":\"Backend\"},".repeat(200) + "{}]}";
+  private static final String SMALL_BODY = "{\"capacities\":[]}";
+
+  private SimpleMeterRegistry meterRegistry;
+  private WebServer server;
+
+  @BeforeAll
+  static void loadCodecDefaults() {
+    // The first exchange reads the codec defaults from the classpath; doing it here keeps BlockHound off the event loop
+    ServerCodecConfigurer.create();
+  }
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    Compression compression = new Compression();
+    compression.setEnabled(true);
+    compression.setMinResponseSize(DataSize.ofBytes(1024));
+    compression.setMimeTypes(new String[] {MediaType.APPLICATION_JSON_VALUE});
+    NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory(0);
+    factory.setCompression(compression);
+
+    server = factory.getWebServer(WebHttpHandlerBuilder
+      .webHandler(exchange -> {
+        byte[] body = (exchange.getRequest().getPath().value().equals("/large") ? LARGE_BODY : SMALL_BODY)
+          .getBytes(StandardCharsets.UTF_8);
+        // Set the way the JSON encoder does for single values; the server only skips small bodies with a known length
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().setContentLength(body.length);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+      })
+      .filter(new CompressionMetricsFilter(meterRegistry))
+      .build());
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  @DisplayName("Should count a large JSON response as gzip when the server compressed it")
+  void shouldCountGzipResponses() throws IOException {
+    // Act
+    Response response = get("/large", "gzip");
+
+    // Assert
+    assertEquals("gzip", response.encoding());
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+      assertEquals(LARGE_BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    assertEquals(1.0, responses("gzip", 1));
+    assertEquals(LARGE_BODY.length(),
+      meterRegistry.get("http.server.compression.original.bytes").tag("encoding", "gzip").summary().totalAmount());
+  }
+
+  @Test
+  @DisplayName("Should count small responses and clients without gzip as identity")
+  void shouldCountIdentityResponses() {
+    // Act
+    Response small = get("/small", "gzip");
+    Response refused = get("/large", "identity");
+
+    // Assert
+    assertNull(small.encoding());
+    assertNull(refused.encoding());
+    assertEquals(LARGE_BODY, new String(refused.body(), StandardCharsets.UTF_8));
+    assertEquals(2.0, responses("identity", 2));
+    assertTrue(meterRegistry.find("http.server.compression.responses").tag("encoding", "gzip").counters().isEmpty());
+  }
+
+  // The exchange completes on the server after the client has read the body, so the count can trail the response
+  private double responses(String encoding, int expected) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (true) {
+      Counter counter = meterRegistry.find("http.server.compression.responses").tag("encoding", encoding).counter();
+      double count = counter == null ? 0 : counter.count();
+      if (count >= expected || System.nanoTime() > deadline) {
+        return count;
+      }
+      LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+    }
+  }
+
+  private Response get(String path, String acceptEncoding) {
+    return HttpClient.create()
+      .headers(headers -> headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+      .get()
+      .uri("http://localhost:" + server.getPort() + path)
+      .responseSingle((response, body) -> body.asByteArray()
+        .map(bytes -> new Response(response.responseHeaders().get(HttpHeaders.CONTENT_ENCODING), bytes)))
+      .block();
+  }
+
+  private record Response(String encoding, byte[] body) {
+  }
+}
@@ -0,0 +1,174 @@
+package co.com.bancolombia.api.idempotency;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.IdempotentResponse;
+import co.com.bancolombia.model.idempotency.gateway.IdempotencyGateway;
+import co.com.bancolombia.usecase.IdempotentRequestUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+  private static final String PATH = "/v1/api/capacity";
+  private static final String REQUEST = "{\"name\":\"Backend\",\"description\":\"Backend capacity\",\"technologyIds\":[1,2,3]}";
+  private static final String RESPONSE = "{\"capacityId\":1}";
+
+  @Mock
+  private IdempotencyGateway idempotencyGateway;
+
+  private IdempotencyFilter filter;
+  private AtomicInteger executions;
+
+  @BeforeEach
+  void setUp() {
+    filter = new IdempotencyFilter(new IdempotentRequestUseCase(idempotencyGateway), new IdempotencyProperties());
+    executions = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("Should run the request once and replay its response to a retry with the same key")
+  void shouldReplayRetryFromFrontCache() {
+    // Arrange
+    when(idempotencyGateway.claim(eq("retry-1"), anyString())).thenReturn(Mono.just(true));
+    when(idempotencyGateway.complete(eq("retry-1"), any())).thenReturn(Mono.empty());
+    MockServerWebExchange first = exchange("retry-1", REQUEST);
+    MockServerWebExchange retry = exchange("retry-1", REQUEST);
+
+    // Act
+    StepVerifier.create(filter.filter(first, creating(Mono.empty()))).verifyComplete();
+    StepVerifier.create(filter.filter(retry, creating(Mono.empty()))).verifyComplete();
+
+    // Assert
+    assertEquals(1, executions.get());
+    assertEquals(HttpStatus.CREATED, retry.getResponse().getStatusCode());
+    assertEquals(RESPONSE, retry.getResponse().getBodyAsString().block());
+    assertEquals("true", retry.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER));
+    verify(idempotencyGateway, times(1)).claim(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("Should attach a concurrent retry to the execution still running on this instance")
+  void shouldAttachConcurrentRetryToRunningExecution() {
+    // Arrange
+    Sinks.Empty<Void> gate = Sinks.empty();
+    when(idempotencyGateway.claim(eq("retry-1"), anyString())).thenReturn(Mono.just(true));
+    when(idempotencyGateway.complete(eq("retry-1"), any())).thenReturn(Mono.empty());
+    MockServerWebExchange first = exchange("retry-1", REQUEST);
+    MockServerWebExchange retry = exchange("retry-1", REQUEST);
+
+    // Act
+    Mono<Void> running = filter.filter(first, creating(gate.asMono())).cache();
+    running.subscribe();
+    Mono<Void> attached = filter.filter(retry, creating(Mono.empty())).cache();
+    attached.subscribe();
+    gate.tryEmitEmpty();
+
+    // Assert
+    StepVerifier.create(running).verifyComplete();
+    StepVerifier.create(attached).verifyComplete();
+    assertEquals(1, executions.get());
+    assertEquals(RESPONSE, retry.getResponse().getBodyAsString().block());
+    verify(idempotencyGateway, times(1)).claim(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("Should answer 422 when the key was stored for a different payload")
+  void shouldRejectKeyReusedWithDifferentPayload() {
+    // Arrange
+    IdempotentResponse stored = new IdempotentResponse(201, MediaType.APPLICATION_JSON_VALUE,
+      RESPONSE.getBytes(StandardCharsets.UTF_8));
+    when(idempotencyGateway.claim(eq("retry-1"), anyString())).thenReturn(Mono.just(false));
+    when(idempotencyGateway.find("retry-1")).thenReturn(Mono.just(new IdempotencyRecord("retry-1", "a".repeat(64), stored)));
+    MockServerWebExchange exchange = exchange("retry-1", REQUEST);
+
+    // Act
+    StepVerifier.create(filter.filter(exchange, creating(Mono.empty()))).verifyComplete();
+
+    // Assert
+    assertEquals(0, executions.get());
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exchange.getResponse().getStatusCode());
+    assertTrue(exchange.getResponse().getBodyAsString().block().contains(IdempotentRequestUseCase.KEY_REUSED_MESSAGE));
+  }
+
+  @Test
+  @DisplayName("Should reject a blank key and pass through requests without one")
+  void shouldRejectBlankKeyAndPassThroughWithoutKey() {
+    // Arrange
+    MockServerWebExchange blank = exchange(" ", REQUEST);
+    MockServerWebExchange withoutKey = MockServerWebExchange.from(MockServerHttpRequest.post(PATH)
+      .contentType(MediaType.APPLICATION_JSON).body(REQUEST));
+
+    // Act
+    StepVerifier.create(filter.filter(blank, creating(Mono.empty()))).verifyComplete();
+    StepVerifier.create(filter.filter(withoutKey, creating(Mono.empty()))).verifyComplete();
+
+    // Assert
+    assertEquals(HttpStatus.BAD_REQUEST, blank.getResponse().getStatusCode());
+    assertEquals(HttpStatus.CREATED, withoutKey.getResponse().getStatusCode());
+    assertEquals(1, executions.get());
+    verifyNoInteractions(idempotencyGateway);
+  }
+
+  @Test
+  @DisplayName("Should answer 413 without running the request when the body exceeds the configured size")
+  void shouldRejectBodyLargerThanMaxBodySize() {
+    // Arrange
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setMaxBodySize(DataSize.ofBytes(16));
+    IdempotencyFilter limited = new IdempotencyFilter(new IdempotentRequestUseCase(idempotencyGateway), properties);
+    MockServerWebExchange exchange = exchange("retry-1", REQUEST);
+
+    // Act
+    StepVerifier.create(limited.filter(exchange, creating(Mono.empty()))).verifyComplete();
+
+    // Assert
+    assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+    assertTrue(exchange.getResponse().getBodyAsString().block().contains(IdempotencyFilter.BODY_TOO_LARGE_MESSAGE));
+    assertEquals(0, executions.get());
+    verifyNoInteractions(idempotencyGateway);
+  }
+
+  private static MockServerWebExchange exchange(String key, String body) {
+    return MockServerWebExchange.from(MockServerHttpRequest.post(PATH)
+      .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(body));
+  }
+
+  // Reads the request body like the handler does and answers once the gate completes
+  private WebFilterChain creating(Mono<Void> gate) {
+    return exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+      .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+      .doOnNext(body -> assertEquals(REQUEST, body))
+      .then(gate)
+      .then(Mono.defer(() -> {
+        executions.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.CREATED);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+          .wrap(RESPONSE.getBytes(StandardCharsets.UTF_8))));
+      }));
+  }
+}
@@ -0,0 +1,40 @@
+package co.com.bancolombia.api.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorBodyCacheTest {
+
+  private final ErrorBodyCache cache = new ErrorBodyCache(
+    Map.of("BUSINESS_ERROR", List.of("The capacity name cannot be duplicated.")));
+
+  @Test
+  @DisplayName("Should reuse the encoded body of a fixed message")
+  void shouldReuseEncodedBodyOfFixedMessage() throws IOException {
+    byte[] first = cache.body("BUSINESS_ERROR", "The capacity name cannot be duplicated.");
+    byte[] second = cache.body("BUSINESS_ERROR", "The capacity name cannot be duplicated.");
+
+    assertSame(first, second);
+    ErrorResponse decoded = new ObjectMapper().readValue(first, ErrorResponse.class);
+    assertEquals(new ErrorResponse("BUSINESS_ERROR", "The capacity name cannot be duplicated."), decoded);
+  }
+
+  @Test
+  @DisplayName("Should encode other messages on each call without caching them")
+  void shouldEncodeOtherMessagesOnEachCall() throws IOException {
+    byte[] first = cache.body("BUSINESS_ERROR", "Bootcamp has not been found. Bootcamp id: 7");
+    byte[] second = cache.body("BUSINESS_ERROR", "Bootcamp has not been found. Bootcamp id: 7");
+
+    assertNotSame(first, second);
+    assertArrayEquals(first, second);
+    assertEquals(new ErrorResponse("DOMAIN_ERROR", "The name cannot be null."),
+      new ObjectMapper().readValue(cache.body("DOMAIN_ERROR", "The name cannot be null."), ErrorResponse.class));
+  }
+}
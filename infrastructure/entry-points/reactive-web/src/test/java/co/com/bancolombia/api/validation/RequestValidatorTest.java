@@ -0,0 +1,77 @@
+package co.com.bancolombia.api.validation;
+
+import co.com.bancolombia.api.request.AssociateCapacityWithBootcampRequest;
+import co.com.bancolombia.api.request.CreateCapacityRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestValidatorTest {
+
+  private static final Validator JAKARTA_VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+  private static final List<String> TECHNOLOGIES = List.of("Java", "Spring", "PostgreSQL");
+
+  @Test
+  @DisplayName("Should report the same messages as the Jakarta annotations for create requests")
+  void shouldMatchJakartaMessagesForCreateRequests() {
+    List<CreateCapacityRequest> requests = List.of(
+      new CreateCapacityRequest("Backend", "Backend capacity", TECHNOLOGIES),
+      new CreateCapacityRequest(null, "Backend capacity", TECHNOLOGIES),
+      new CreateCapacityRequest(" \t\n", "Backend capacity", TECHNOLOGIES),
+      new CreateCapacityRequest("Backend", "", null),
+      new CreateCapacityRequest(null, null, null),
+      new CreateCapacityRequest(" ", "Backend capacity", List.of()));
+
+    requests.forEach(request -> assertEquals(jakartaMessages(request), messages(() -> RequestValidator.validate(request)),
+      () -> "Mismatch for " + request));
+  }
+
+  @Test
+  @DisplayName("Should report the same messages as the Jakarta annotations for association requests")
+  void shouldMatchJakartaMessagesForAssociateRequests() {
+    List<AssociateCapacityWithBootcampRequest> requests = List.of(
+      new AssociateCapacityWithBootcampRequest(1L, 2L),
+      new AssociateCapacityWithBootcampRequest(null, 2L),
+      new AssociateCapacityWithBootcampRequest(0L, -1L),
+      new AssociateCapacityWithBootcampRequest(null, null));
+
+    requests.forEach(request -> assertEquals(jakartaMessages(request), messages(() -> RequestValidator.validate(request)),
+      () -> "Mismatch for " + request));
+  }
+
+  @Test
+  @DisplayName("Should report violations in declaration order")
+  void shouldReportViolationsInDeclarationOrder() {
+    RequestValidationException exception = assertThrows(RequestValidationException.class,
+      () -> RequestValidator.validate(new CreateCapacityRequest(null, "Backend capacity", null)));
+
+    assertEquals(List.of("Capacity name is required", "Capacity name cannot be empty", "Technology names are required"),
+      exception.getViolations());
+    assertEquals("Capacity name is required, Capacity name cannot be empty, Technology names are required",
+      exception.getMessage());
+  }
+
+  private static <T> Set<String> jakartaMessages(T request) {
+    return JAKARTA_VALIDATOR.validate(request).stream()
+      .map(ConstraintViolation::getMessage)
+      .collect(Collectors.toSet());
+  }
+
+  private static Set<String> messages(Runnable validation) {
+    try {
+      validation.run();
+      return Set.of();
+    } catch (RequestValidationException e) {
+      return new HashSet<>(e.getViolations());
+    }
+  }
+}
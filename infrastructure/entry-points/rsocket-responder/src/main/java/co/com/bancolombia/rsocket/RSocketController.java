@@ -0,0 +1,120 @@
+package co.com.bancolombia.rsocket;
+
+import co.com.bancolombia.model.capacity.exception.DomainException;
+import co.com.bancolombia.rsocket.request.AssociateCapacityWithBootcampRequest;
+import co.com.bancolombia.rsocket.request.CreateCapacityRequest;
+import co.com.bancolombia.rsocket.request.GetCapacitiesRequest;
+import co.com.bancolombia.usecase.*;
+import co.com.bancolombia.usecase.command.AssociateCapacityWithBootcampCommand;
+import co.com.bancolombia.usecase.command.CreateCapacityCommand;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.AssociateCapacityWithBootcampResponse;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
+import io.rsocket.exceptions.ApplicationErrorException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class RSocketController {
+  private static final String GENERIC_ERROR_MESSAGE = "An unexpected error occurred";
+
+  private final CreateCapacityUseCase createCapacityUseCase;
+  private final GetCapacityUseCase getCapacityUseCase;
+  private final AssociateCapacityWithBootcampUseCase associateCapacityWithBootcampUseCase;
+  private final GetCapacityByBootcampUseCase getCapacityByBootcampUseCase;
+  private final GetAllCapacityIdsUseCase getAllCapacityIdsUseCase;
+  private final DeleteCapacityUseCase deleteCapacityUseCase;
+  private final Validator validator;
+
+  @MessageMapping("capacity.create")
+  public Mono<CapacityResponse> createCapacity(Mono<CreateCapacityRequest> request) {
+    return request
+      .doOnNext(this::validateRequest)
+      .map(valid -> new CreateCapacityCommand(valid.getName(), valid.getDescription(), valid.getTechnologyNames()))
+      .flatMap(createCapacityUseCase::execute)
+      .onErrorMap(this::toApplicationError);
+  }
+
+  @MessageMapping("capacity.list")
+  public Mono<GetCapacitiesResponse> getAllCapacities(Mono<GetCapacitiesRequest> request) {
+    return request
+      .defaultIfEmpty(new GetCapacitiesRequest())
+      .flatMap(query -> getCapacityUseCase.execute(
+        Objects.requireNonNullElse(query.getPage(), 0),
+        Objects.requireNonNullElse(query.getSize(), 10),
+        Objects.requireNonNullElse(query.getSortBy(), "name"),
+        Objects.requireNonNullElse(query.getOrder(), "asc"),
+        Objects.requireNonNullElse(query.getWithTechnologies(), true)))
+      .onErrorMap(this::toApplicationError);
+  }
+
+  // Request-stream routes hand the use case Flux straight to RSocket, so the requester's REQUEST_N drives the query
+  @MessageMapping("capacity.bootcamp.{bootcampId}")
+  public Flux<CapacityResponse> getCapacitiesByBootcamp(@DestinationVariable Long bootcampId) {
+    return getCapacityByBootcampUseCase.execute(bootcampId)
+      .onErrorMap(this::toApplicationError);
+  }
+
+  @MessageMapping("capacity.ids")
+  public Flux<Long> getAllCapacityIds() {
+    return getAllCapacityIdsUseCase.execute()
+      .onErrorMap(this::toApplicationError);
+  }
+
+  @MessageMapping("capacity.associate")
+  public Mono<AssociateCapacityWithBootcampResponse> associateCapacityWithBootcamp(
+    Mono<AssociateCapacityWithBootcampRequest> request) {
+    return request
+      .doOnNext(this::validateRequest)
+      .map(valid -> new AssociateCapacityWithBootcampCommand(valid.getCapacityId(), valid.getBootcampId()))
+      .flatMap(associateCapacityWithBootcampUseCase::execute)
+      .onErrorMap(this::toApplicationError);
+  }
+
+  @MessageMapping("capacity.bootcamp.{bootcampId}.delete")
+  public Mono<List<Long>> deleteCapacitiesByBootcamp(@DestinationVariable Long bootcampId) {
+    return deleteCapacityUseCase.execute(bootcampId)
+      .onErrorMap(this::toApplicationError);
+  }
+
+  private <T> void validateRequest(T request) {
+    Set<ConstraintViolation<T>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      throw new ConstraintViolationException(violations);
+    }
+  }
+
+  // Requesters only see APPLICATION_ERROR frames; expected failures keep their message, anything else is masked
+  private Throwable toApplicationError(Throwable error) {
+    if (error instanceof ConstraintViolationException ex) {
+      String errorMessage = ex.getConstraintViolations().stream()
+        .map(ConstraintViolation::getMessage)
+        .collect(Collectors.joining(", "));
+      log.warn("Validation error: {}", errorMessage);
+      return new ApplicationErrorException(errorMessage);
+    }
+    if (error instanceof DomainException || error instanceof BussinessException) {
+      log.warn("Business error: {}", error.getMessage());
+      return new ApplicationErrorException(error.getMessage());
+    }
+
+    log.error("Unexpected error", error);
+    return new ApplicationErrorException(GENERIC_ERROR_MESSAGE);
+  }
+}
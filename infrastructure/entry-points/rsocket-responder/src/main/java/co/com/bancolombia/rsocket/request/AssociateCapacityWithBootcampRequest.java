@@ -0,0 +1,19 @@
+package co.com.bancolombia.rsocket.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class AssociateCapacityWithBootcampRequest {
+  @NotNull(message = "Capacity id is required")
+  @Positive(message = "The capacity id should be positive")
+  private Long capacityId;
+  @NotNull(message = "Bootcamp id is required")
+  @Positive(message = "The bootcamp id should be positive")
+  private Long bootcampId;
+}
@@ -0,0 +1,23 @@
+package co.com.bancolombia.rsocket.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class CreateCapacityRequest {
+  @NotNull(message = "Capacity name is required")
+  @NotBlank(message = "Capacity name cannot be empty")
+  private String name;
+  @NotNull(message = "Capacity name is required")
+  @NotBlank(message = "Capacity name cannot be empty")
+  private String description;
+  @NotNull(message = "Technology names are required")
+  private List<String> technologyNames;
+}
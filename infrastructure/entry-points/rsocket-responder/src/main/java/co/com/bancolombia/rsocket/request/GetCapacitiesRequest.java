@@ -0,0 +1,16 @@
+package co.com.bancolombia.rsocket.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class GetCapacitiesRequest {
+  private Integer page;
+  private Integer size;
+  private String sortBy;
+  private String order;
+  private Boolean withTechnologies;
+}
@@ -0,0 +1,139 @@
+package co.com.bancolombia.rsocket;
+
+import co.com.bancolombia.rsocket.request.CreateCapacityRequest;
+import co.com.bancolombia.rsocket.request.GetCapacitiesRequest;
+import co.com.bancolombia.usecase.*;
+import co.com.bancolombia.usecase.exception.BussinessException;
+import co.com.bancolombia.usecase.response.CapacityResponse;
+import co.com.bancolombia.usecase.response.GetCapacitiesResponse;
+import io.rsocket.exceptions.ApplicationErrorException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RSocketControllerTest {
+
+  @Mock
+  private CreateCapacityUseCase createCapacityUseCase;
+
+  @Mock
+  private GetCapacityUseCase getCapacityUseCase;
+
+  @Mock
+  private AssociateCapacityWithBootcampUseCase associateCapacityWithBootcampUseCase;
+
+  @Mock
+  private GetCapacityByBootcampUseCase getCapacityByBootcampUseCase;
+
+  @Mock
+  private GetAllCapacityIdsUseCase getAllCapacityIdsUseCase;
+
+  @Mock
+  private DeleteCapacityUseCase deleteCapacityUseCase;
+
+  private RSocketController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller = new RSocketController(createCapacityUseCase, getCapacityUseCase,
+      associateCapacityWithBootcampUseCase, getCapacityByBootcampUseCase, getAllCapacityIdsUseCase,
+      deleteCapacityUseCase, Validation.buildDefaultValidatorFactory().getValidator());
+  }
+
+  @Test
+  @DisplayName("Should create a capacity from a valid request")
+  void shouldCreateCapacityFromValidRequest() {
+    // Arrange
+    CapacityResponse created = new CapacityResponse(1L, "Backend", "Backend capacity", List.of());
+    when(createCapacityUseCase.execute(any())).thenReturn(Mono.just(created));
+
+    // Act & Assert
+    StepVerifier.create(controller.createCapacity(
+        Mono.just(new CreateCapacityRequest("Backend", "Backend capacity", List.of("Java", "Spring", "Go")))))
+      .expectNext(created)
+      .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should reject an invalid create request with an application error")
+  void shouldRejectInvalidCreateRequest() {
+    // Act & Assert
+    StepVerifier.create(controller.createCapacity(Mono.just(new CreateCapacityRequest("", "Backend capacity", null))))
+      .expectErrorMatches(error -> error instanceof ApplicationErrorException
+        && error.getMessage().contains("Technology names are required"))
+      .verify();
+
+    verifyNoInteractions(createCapacityUseCase);
+  }
+
+  @Test
+  @DisplayName("Should apply the default page when the request has no payload")
+  void shouldApplyDefaultPageWithoutPayload() {
+    // Arrange
+    GetCapacitiesResponse page = new GetCapacitiesResponse(List.of(), null, 0L, 0);
+    when(getCapacityUseCase.execute(0, 10, "name", "asc", true)).thenReturn(Mono.just(page));
+
+    // Act & Assert
+    StepVerifier.create(controller.getAllCapacities(Mono.empty()))
+      .expectNext(page)
+      .verifyComplete();
+
+    StepVerifier.create(controller.getAllCapacities(Mono.just(new GetCapacitiesRequest(null, null, null, null, null))))
+      .expectNext(page)
+      .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Should only pull as many capacity ids as the requester asked for")
+  void shouldHonourRequesterDemandOnIdStream() {
+    // Arrange
+    AtomicLong requested = new AtomicLong();
+    when(getAllCapacityIdsUseCase.execute())
+      .thenReturn(Flux.range(1, 1000).map(Long::valueOf).doOnRequest(requested::addAndGet));
+
+    // Act & Assert
+    StepVerifier.create(controller.getAllCapacityIds(), 2)
+      .expectNext(1L, 2L)
+      .then(() -> assertEquals(2L, requested.get()))
+      .thenRequest(3)
+      .expectNext(3L, 4L, 5L)
+      .thenCancel()
+      .verify();
+
+    assertEquals(5L, requested.get());
+  }
+
+  @Test
+  @DisplayName("Should keep business messages and mask unexpected errors")
+  void shouldMapErrorsToApplicationErrors() {
+    // Arrange
+    when(deleteCapacityUseCase.execute(7L)).thenReturn(Mono.error(new BussinessException("Bootcamp not found")));
+    when(getCapacityByBootcampUseCase.execute(7L)).thenReturn(Flux.error(new IllegalStateException("pool exhausted")));
+
+    // Act & Assert
+    StepVerifier.create(controller.deleteCapacitiesByBootcamp(7L))
+      .expectErrorMatches(error -> error instanceof ApplicationErrorException
+        && error.getMessage().equals("Bootcamp not found"))
+      .verify();
+
+    StepVerifier.create(controller.getCapacitiesByBootcamp(7L))
+      .expectErrorMatches(error -> error instanceof ApplicationErrorException
+        && error.getMessage().equals("An unexpected error occurred"))
+      .verify();
+  }
+}